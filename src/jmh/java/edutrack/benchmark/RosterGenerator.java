@@ -0,0 +1,88 @@
+package edutrack.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Email;
+import edutrack.model.person.Name;
+import edutrack.model.person.Note;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.model.util.SampleDataUtil;
+
+/**
+ * Generates synthetic rosters of any size for benchmarks.
+ *
+ * Students are variations of the persons in {@link SampleDataUtil}: each one is numbered to keep names and emails
+ * unique, and gets a few more tags and groups drawn from fixed pools, so that tags and groups are shared by many
+ * students as in a real course. The same size always generates the same roster.
+ */
+public class RosterGenerator {
+
+    public static final int TAG_POOL_SIZE = 50;
+    public static final int GROUP_POOL_SIZE = 200;
+
+    private static final long SEED = 2103;
+    private static final int MAX_EXTRA_TAGS = 3;
+
+    private RosterGenerator() {} // prevents instantiation
+
+    /**
+     * Returns an address book of {@code size} generated students, with all their tags in the tag list.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : generatePersons(size)) {
+            addressBook.addPerson(person);
+            person.getTags().forEach(tag -> {
+                if (!addressBook.hasTag(tag)) {
+                    addressBook.addTag(tag);
+                }
+            });
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code size} generated students, with unique names.
+     */
+    public static List<Person> generatePersons(int size) {
+        Random random = new Random(SEED);
+        Person[] templates = SampleDataUtil.getSamplePersons();
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(generatePerson(templates[i % templates.length], i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a student that is not part of a roster generated by this class, e.g. to be added to it.
+     */
+    public static Person generateNewPerson() {
+        return generatePerson(SampleDataUtil.getSamplePersons()[0], -1, new Random(SEED));
+    }
+
+    private static Person generatePerson(Person template, int number, Random random) {
+        String suffix = number < 0 ? "new" : String.valueOf(number);
+        Name name = new Name(template.getName().fullName + " " + suffix);
+        Email email = new Email(suffix + "." + template.getEmail().value);
+
+        Set<Tag> tags = new HashSet<>(template.getTags());
+        int extraTagCount = random.nextInt(MAX_EXTRA_TAGS + 1);
+        for (int i = 0; i < extraTagCount; i++) {
+            tags.add(new Tag("tag" + random.nextInt(TAG_POOL_SIZE)));
+        }
+        Set<Group> groups = new HashSet<>(template.getGroups());
+        groups.add(new Group(String.format("T%03d", random.nextInt(GROUP_POOL_SIZE))));
+
+        String templateGroup = template.getGroups().iterator().next().groupName;
+        Note note = new Note(random.nextInt(4) == 0 ? "Needs help with " + templateGroup : "");
+        return new Person(name, template.getPhone(), email, template.getAddress(), tags, groups, note);
+    }
+}
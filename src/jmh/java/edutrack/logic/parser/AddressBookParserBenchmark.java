@@ -0,0 +1,76 @@
+package edutrack.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.logic.commands.Command;
+import edutrack.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@code AddressBookParser#parseCommand} with a valid input for every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends g/CS2103T",
+        "edit 1 p/91234567 e/johndoe@example.com",
+        "delete 1",
+        "find n/alice bob charlie",
+        "find n~/jonh smtih",
+        "find g/CS2103T",
+        "findtag t/needs_help",
+        "filter g/CS2103T AND (t/needs_help OR no/late*) AND NOT t/graduated",
+        "search ale* serangoon",
+        "group/create g/CS2103T",
+        "group/delete g/CS2103T",
+        "group/assign 1 2 3 g/CS2103T",
+        "group/unassign 1 2 3 g/CS2103T",
+        "group/list",
+        "tag/create t/Physics",
+        "tag/delete t/Physics",
+        "tag/assign 1 t/Physics",
+        "tag/unassign 1 t/Physics",
+        "tag/list",
+        "note/create 1 no/Needs improvement in math.",
+        "note/delete 1",
+        "sort",
+        "stats",
+        "list",
+        "clear",
+        "help",
+        "exit"
+    })
+    public String input;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    /**
+     * Checks that the input is valid, so that the benchmark does not measure the error path.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
@@ -0,0 +1,53 @@
+package edutrack.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+import edutrack.model.person.Person;
+
+/**
+ * Benchmarks fuzzy name searches of the {@code FuzzyNameIndex} of an address book, as done by {@code find n~/}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyNameIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"aelx", "bernise yu", "12354"})
+    public String keywords;
+
+    private FuzzyNameIndex fuzzyNameIndex;
+    private List<String> searchKeywords;
+
+    @Setup
+    public void setUp() {
+        fuzzyNameIndex = RosterGenerator.generateAddressBook(size).getFuzzyNameIndex();
+        searchKeywords = Arrays.asList(keywords.split(" "));
+    }
+
+    @Benchmark
+    public Map<Person, Integer> search() {
+        return fuzzyNameIndex.search(searchKeywords);
+    }
+}
@@ -0,0 +1,53 @@
+package edutrack.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+import edutrack.model.person.Person;
+
+/**
+ * Benchmarks full-text searches of the {@code SearchIndex} of an address book, as done by {@code search}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"12345", "bernice* 4", "serangoon", "li"})
+    public String terms;
+
+    private SearchIndex searchIndex;
+    private List<String> searchTerms;
+
+    @Setup
+    public void setUp() {
+        searchIndex = RosterGenerator.generateAddressBook(size).getSearchIndex();
+        searchTerms = Arrays.asList(terms.split(" "));
+    }
+
+    @Benchmark
+    public Set<Person> search() {
+        return searchIndex.search(searchTerms);
+    }
+}
@@ -0,0 +1,60 @@
+package edutrack.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+
+/**
+ * Benchmarks filtering a roster with a {@code NameContainsKeywordsPredicate}, as done by {@code find n/}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"yeoh", "alex bernice 42 missing"})
+    public String keywords;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = RosterGenerator.generatePersons(size);
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList(keywords.split(" ")));
+    }
+
+    /**
+     * Tests every person of the roster, as a {@code FilteredList} does when its predicate changes.
+     */
+    @Benchmark
+    public int filter() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
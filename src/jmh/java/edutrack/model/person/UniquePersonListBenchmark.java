@@ -0,0 +1,90 @@
+package edutrack.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+
+/**
+ * Benchmarks adding persons to, replacing persons in, and looking up persons in, a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person existingPerson;
+    private Person newPerson;
+
+    /**
+     * Generates the roster and fills the list with it.
+     */
+    @Setup
+    public void setUp() {
+        persons = RosterGenerator.generatePersons(size);
+        uniquePersonList = new UniquePersonList();
+        persons.forEach(uniquePersonList::add);
+        existingPerson = persons.get(size / 2);
+        newPerson = RosterGenerator.generateNewPerson();
+    }
+
+    /**
+     * Adds a person to the full list and removes it again, so that the list keeps its size.
+     */
+    @Benchmark
+    public UniquePersonList addToFullList() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+        return uniquePersonList;
+    }
+
+    /**
+     * Fills an empty list with the whole roster.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        persons.forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Replaces a person in the middle of the full list, as an edit does.
+     */
+    @Benchmark
+    public UniquePersonList setExisting() {
+        uniquePersonList.setPerson(existingPerson, existingPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return uniquePersonList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return uniquePersonList.contains(newPerson);
+    }
+}
@@ -0,0 +1,58 @@
+package edutrack.model.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+import edutrack.logic.parser.FilterCommandParser;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.AddressBook;
+
+/**
+ * Benchmarks evaluating {@code filter} queries from the indexes of an address book, against testing the same queries
+ * against every person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"g/T007 t/tag3", "g/T007 NOT t/tag3", "(g/T007 OR g/T008) n/alex*", "t/tag1 t/tag2 OR no/help"})
+    public String input;
+
+    private AddressBook addressBook;
+    private Query query;
+
+    @Setup
+    public void setUp() throws ParseException {
+        addressBook = RosterGenerator.generateAddressBook(size);
+        query = new FilterCommandParser().parseQuery(input);
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return query.match(addressBook).isEmpty();
+    }
+
+    @Benchmark
+    public long scan() {
+        return addressBook.getPersonList().stream().filter(query).count();
+    }
+}
@@ -0,0 +1,93 @@
+package edutrack.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks loading and saving a roster with {@code JsonAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private Path loadPath;
+    private Path savePath;
+    private AddressBook addressBook;
+
+    /**
+     * Generates the roster and saves it to a temporary folder to be loaded.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("edutrack-benchmark");
+        loadPath = folder.resolve("load.json");
+        savePath = folder.resolve("save.json");
+        addressBook = RosterGenerator.generateAddressBook(size);
+        new JsonAddressBookStorage(loadPath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary folder and its files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return new JsonAddressBookStorage(loadPath).readAddressBook();
+    }
+
+    /**
+     * Saves the roster, including the rotation of the previous generations.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        new JsonAddressBookStorage(savePath).saveAddressBook(addressBook);
+        return savePath;
+    }
+
+    /**
+     * Serializes the roster to json without touching the file system.
+     */
+    @Benchmark
+    public String serialize() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+}
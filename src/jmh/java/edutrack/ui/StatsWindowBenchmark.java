@@ -0,0 +1,59 @@
+package edutrack.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edutrack.benchmark.RosterGenerator;
+import edutrack.model.AddressBook;
+import edutrack.model.person.Person;
+
+/**
+ * Benchmarks the aggregation of the statistics shown by the {@code StatsWindow}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsWindowBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Person newPerson;
+
+    @Setup
+    public void setUp() {
+        addressBook = RosterGenerator.generateAddressBook(size);
+        newPerson = RosterGenerator.generateNewPerson();
+    }
+
+    @Benchmark
+    public String buildStatsText() {
+        return StatsWindow.buildStatsText(addressBook.getStatistics());
+    }
+
+    /**
+     * Adds and removes a person before building the text, so that the snapshots of the counters it changed are
+     * taken again.
+     */
+    @Benchmark
+    public String buildStatsTextAfterChange() {
+        addressBook.addPerson(newPerson);
+        addressBook.removePerson(newPerson);
+        return StatsWindow.buildStatsText(addressBook.getStatistics());
+    }
+}
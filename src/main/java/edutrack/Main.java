@@ -37,5 +37,8 @@ public class Main {
 
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
+
+        // only exits once MainApp#stop has saved the data, so that a failed script is reported to the caller
+        System.exit(MainApp.getExitStatus());
     }
 }
@@ -1,18 +1,25 @@
 package edutrack;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import edutrack.commons.core.AddressBookFormat;
 import edutrack.commons.core.Config;
 import edutrack.commons.core.LogsCenter;
 import edutrack.commons.core.Version;
 import edutrack.commons.exceptions.DataLoadingException;
 import edutrack.commons.util.ConfigUtil;
 import edutrack.commons.util.StringUtil;
+import edutrack.logic.CommandRunner;
 import edutrack.logic.Logic;
 import edutrack.logic.LogicManager;
+import edutrack.logic.commands.CommandResult;
+import edutrack.logic.commands.RunCommand;
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.AddressBook;
 import edutrack.model.Model;
 import edutrack.model.ModelManager;
@@ -20,15 +27,17 @@ import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.ReadOnlyUserPrefs;
 import edutrack.model.UserPrefs;
 import edutrack.model.util.SampleDataUtil;
+import edutrack.storage.AddressBookFormatConverter;
 import edutrack.storage.AddressBookStorage;
-import edutrack.storage.JsonAddressBookStorage;
 import edutrack.storage.JsonUserPrefsStorage;
+import edutrack.storage.PersistenceScheduler;
 import edutrack.storage.Storage;
 import edutrack.storage.StorageManager;
 import edutrack.storage.UserPrefsStorage;
 import edutrack.ui.Ui;
 import edutrack.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -38,13 +47,20 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 1, true);
 
+    /** Exit status of the application when a script given with {@code --run} failed. */
+    public static final int EXIT_STATUS_SCRIPT_FAILED = 1;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static volatile int exitStatus = 0;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected PersistenceScheduler persistenceScheduler;
+    protected CommandRunner commandRunner;
 
     @Override
     public void init() throws Exception {
@@ -57,14 +73,74 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
+        boolean isDataFileMissing = !Files.exists(storage.getAddressBookFilePath());
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        persistenceScheduler = new PersistenceScheduler(storage, model.getAddressBook(),
+                PersistenceScheduler.DEFAULT_DEBOUNCE_MILLIS);
+        if (isDataFileMissing) {
+            // the sample data is written on the first save, as before
+            persistenceScheduler.markModified();
+        }
+        logic = new LogicManager(model, persistenceScheduler);
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath());
+        }
+        commandRunner = new CommandRunner(logic, Platform::runLater);
+
+        if (appParameters.getScriptPath() == null) {
+            ui = new UiManager(logic, commandRunner);
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} as a {@code run} command, for applying a script without the user
+     * interface. The result is only logged, and a failure is recorded so that the application exits with
+     * {@link #EXIT_STATUS_SCRIPT_FAILED}. The JavaFX toolkit is still started, and stopped again by {@link #start}.
+     */
+    private void runScript(Path scriptPath) {
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.severe("Script " + scriptPath + " was not applied: " + e.getMessage());
+            exitStatus = EXIT_STATUS_SCRIPT_FAILED;
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     * An existing data file in another format is converted first. If it cannot be converted, the returned storage
+     * is for the format the file is in, so that the preference is only applied once the file can be converted.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            AddressBookFormatConverter.convertIfNeeded(addressBookFilePath, format);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + addressBookFilePath + " could not be converted to " + format + ": "
+                    + StringUtil.getDetails(e));
+            format = detectFormat(addressBookFilePath).orElse(format);
+            logger.info("Keeping the data file at " + addressBookFilePath + " in " + format);
+        }
+        return AddressBookFormatConverter.createStorage(format, addressBookFilePath);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the format of the data file at {@code filePath}, or an empty optional if it is missing or unreadable.
+     */
+    private Optional<AddressBookFormat> detectFormat(Path filePath) {
+        try {
+            return AddressBookFormatConverter.detectFormat(filePath);
+        } catch (IOException e) {
+            logger.warning("Could not detect the format of the data file at " + filePath + ": "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
     }
 
     /**
@@ -171,16 +247,38 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        if (ui == null) {
+            // only a script was run
+            Platform.exit();
+            return;
+        }
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // the scheduler is only used by the command runner's thread until it stops
+        commandRunner.shutdown();
+        try {
+            persistenceScheduler.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        } finally {
+            persistenceScheduler.shutdown();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Returns the status the application should exit with once it has stopped, which is
+     * {@link #EXIT_STATUS_SCRIPT_FAILED} if a script given with {@code --run} failed, or 0 otherwise.
+     */
+    public static int getExitStatus() {
+        return exitStatus;
+    }
 }
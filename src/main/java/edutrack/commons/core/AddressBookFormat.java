@@ -0,0 +1,11 @@
+package edutrack.commons.core;
+
+/**
+ * File formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, with a journal of recent changes. */
+    JSON,
+    /** Compact binary snapshots, with group and tag names stored once. */
+    BINARY
+}
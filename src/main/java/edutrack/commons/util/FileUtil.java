@@ -1,10 +1,21 @@
 package edutrack.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.UUID;
 
 /**
  * Writes and reads files
@@ -75,9 +86,118 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeToFileAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code writer} to a file, creating the file if it does not exist yet.
+     * The content is streamed into a temporary file next to {@code file}, forced to disk, and then renamed over
+     * {@code file}, so that a crash during the write leaves either the old or the new content, never a mix.
+     * The replaced file keeps the permissions of the existing one, and a new file gets the default permissions.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        // unlike Files.createTempFile, which makes the file readable by its owner only, uses the default permissions
+        Path tempFile = Files.createFile(directory.resolve(file.getFileName() + "." + UUID.randomUUID() + ".tmp"));
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                // the writer may close the stream it was given, so only flush here and close the channel below
+                writer.writeTo(new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        out.flush();
+                    }
+                });
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Keeps the current content of {@code file} as the most recent of {@code count} numbered backups
+     * ({@code file.1} being the most recent), discarding the oldest backup.
+     * Does nothing if {@code file} does not exist.
+     */
+    public static void rotateBackups(Path file, int count) throws IOException {
+        if (count <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, count));
+        for (int generation = count - 1; generation >= 1; generation--) {
+            Path backup = getBackupPath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupPath(file, generation + 1));
+            }
+        }
+
+        // a hard link keeps the old content once the file is replaced, without copying it
+        Path latestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the numbered backup of {@code file} kept by {@link #rotateBackups(Path, int)}.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the platform has them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the rename of a file in {@code directory} to disk, where the platform supports it.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms, e.g. Windows, where the rename is already durable
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
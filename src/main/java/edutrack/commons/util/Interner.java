@@ -0,0 +1,75 @@
+package edutrack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Assigns small integer ids to values, so that collections of them can be stored as arrays of ids, and keeps one
+ * canonical instance of the values with each key.
+ *
+ * Values are identified by a key derived from them rather than by {@code equals}, so values that are equal but
+ * distinguishable (e.g. tags differing only in case) keep their own ids. Ids are assigned in the order the keys are
+ * first seen, starting from 0, and are never reused, so an interner should only hold values of which there are few
+ * distinct ones. Ids can be assigned and looked up on any thread.
+ */
+public class Interner<T> {
+
+    private final Function<? super T, ?> keyFunction;
+    private final Map<Object, Integer> idsByKey = new ConcurrentHashMap<>();
+    private volatile Object[] values = new Object[16];
+    private int size;
+
+    /**
+     * Creates an interner identifying values by the key {@code keyFunction} derives from them.
+     */
+    public Interner(Function<? super T, ?> keyFunction) {
+        this.keyFunction = requireNonNull(keyFunction);
+    }
+
+    /**
+     * Returns the id of {@code value}, assigning it the next id if no value with its key has one yet.
+     */
+    public int idOf(T value) {
+        requireNonNull(value);
+        Object key = keyFunction.apply(value);
+        Integer id = idsByKey.get(key);
+        return id != null ? id : assignId(key, value);
+    }
+
+    /**
+     * Returns the canonical value with the key of {@code value}, which is {@code value} itself if no value with its
+     * key had an id yet.
+     */
+    public T intern(T value) {
+        return get(idOf(value));
+    }
+
+    private synchronized int assignId(Object key, T value) {
+        Integer id = idsByKey.get(key);
+        if (id != null) {
+            return id;
+        }
+        Object[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        // publishes the value before its id, so that any thread that obtains the id can look the value up
+        values = current;
+        idsByKey.put(key, size);
+        return size++;
+    }
+
+    /**
+     * Returns the canonical value with id {@code id}, which must have been returned by {@link #idOf(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        return (T) Objects.requireNonNull(values[id]);
+    }
+}
@@ -3,6 +3,8 @@ package edutrack.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -40,12 +42,24 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        // streams the json into the file instead of building the whole string in memory first
+        FileUtil.writeToFileAtomically(jsonFile, out -> writeJson(out, objectToSerialize));
+    }
+
+    /**
+     * Writes {@code instance} to {@code out} as pretty-printed JSON, in the same form as {@link #saveJsonFile}.
+     * Closes {@code out}.
+     */
+    public static <T> void writeJson(OutputStream out, T instance) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, instance);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        // parses from the file stream instead of reading the whole file into a string first
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -80,6 +94,7 @@ public class JsonUtil {
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so a failed save leaves the previous content intact.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -111,6 +126,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation, without the
+     * whitespace added by {@link #toJsonString(Object)}.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,51 @@
+package edutrack.commons.util;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches whole words against a fixed set of keywords, ignoring case as {@link StringUtil#containsWordIgnoreCase}.
+ * The keywords are validated and case-folded once when the matcher is created, so that matching words that were
+ * folded in advance with {@link StringUtil#foldWords(String)} needs neither a regex nor any allocation.
+ */
+public class KeywordMatcher {
+
+    private final Set<String> foldedKeywords = new HashSet<>();
+
+    /**
+     * Creates a matcher for {@code keywords}, each of which must be a single non-empty word.
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        for (String keyword : keywords) {
+            List<String> words = StringUtil.foldWords(keyword);
+            checkArgument(!words.isEmpty(), "Keyword cannot be empty");
+            checkArgument(words.size() == 1, "Keyword should be a single word");
+            foldedKeywords.add(words.get(0));
+        }
+    }
+
+    /**
+     * Returns true if any of {@code foldedWords}, as returned by {@link StringUtil#foldWords(String)}, is a keyword.
+     */
+    public boolean matchesAny(List<String> foldedWords) {
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (foldedKeywords.contains(foldedWords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any word of {@code sentence} is a keyword.
+     */
+    public boolean matchesAnyWordOf(String sentence) {
+        return matchesAny(StringUtil.foldWords(sentence));
+    }
+}
@@ -0,0 +1,288 @@
+package edutrack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list, whose modified copies share most of their structure with it.
+ *
+ * The elements are held in a randomized binary search tree ordered by position, in which every node knows the size of
+ * its subtree. A modified copy only copies the nodes on the path to the changed position, so adding, removing or
+ * replacing an element takes expected O(log n) time and space, and never changes a list that was already handed out.
+ * A list can thus be read on any thread while modified copies of it are made on another.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order, in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build((T[]) array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index == leftSize) {
+                return node.value;
+            }
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator<>(root, false);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list from the last to the first.
+     */
+    public Iterator<T> descendingIterator() {
+        return new NodeIterator<>(root, true);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} appended.
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of elements of this list held in nodes that {@code other} does not share, i.e. how much of
+     * this list was copied if it was made by modifying {@code other}. Takes O(n) time.
+     */
+    public int countUnsharedNodes(PersistentList<T> other) {
+        requireNonNull(other);
+        Set<Node<T>> otherNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        pushIfPresent(pending, other.root);
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            otherNodes.add(node);
+            pushIfPresent(pending, node.left);
+            pushIfPresent(pending, node.right);
+        }
+
+        int count = 0;
+        pushIfPresent(pending, root);
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            if (otherNodes.contains(node)) {
+                continue;
+            }
+            count++;
+            pushIfPresent(pending, node.left);
+            pushIfPresent(pending, node.right);
+        }
+        return count;
+    }
+
+    private static <T> void pushIfPresent(Deque<Node<T>> pending, Node<T> node) {
+        if (node != null) {
+            pending.push(node);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> Node<T> build(T[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Inserts {@code element} at the root of the subtree with the probability it would have in a random tree of the
+     * elements, so that the tree stays balanced in expectation whatever the order of insertions.
+     */
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (ThreadLocalRandom.current().nextInt(size(node) + 1) == 0) {
+            Node<T>[] parts = split(node, index);
+            return new Node<>(element, parts[0], parts[1]);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return new Node<>(node.value, insert(node.left, index, element), node.right);
+        }
+        return new Node<>(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.value, node.left, remove(node.right, index - leftSize - 1));
+        }
+        return merge(node.left, node.right);
+    }
+
+    /**
+     * Returns the subtrees of the first {@code count} elements of {@code node} and of the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] split(Node<T> node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = size(node.left);
+        if (count <= leftSize) {
+            Node<T>[] parts = split(node.left, count);
+            parts[1] = new Node<>(node.value, parts[1], node.right);
+            return parts;
+        }
+        Node<T>[] parts = split(node.right, count - leftSize - 1);
+        parts[0] = new Node<>(node.value, node.left, parts[0]);
+        return parts;
+    }
+
+    /**
+     * Returns a subtree of the elements of {@code first} followed by those of {@code second}, whose root is taken from
+     * either with a probability proportional to its size.
+     */
+    private static <T> Node<T> merge(Node<T> first, Node<T> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (ThreadLocalRandom.current().nextInt(first.size + second.size) < first.size) {
+            return new Node<>(first.value, first.left, merge(first.right, second));
+        }
+        return new Node<>(second.value, merge(first, second.left), second.right);
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a subtree in order or in reverse order, in O(1) amortized time per element.
+     */
+    private static final class NodeIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+        private final boolean isDescending;
+
+        NodeIterator(Node<T> root, boolean isDescending) {
+            this.isDescending = isDescending;
+            pushFirstPath(root);
+        }
+
+        private void pushFirstPath(Node<T> node) {
+            while (node != null) {
+                path.push(node);
+                node = isDescending ? node.right : node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushFirstPath(isDescending ? node.left : node.right);
+            return node.value;
+        }
+    }
+}
@@ -5,13 +5,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Collator COLLATOR = createCollator();
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +46,114 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code text} with every character mapped to a canonical case, such that two strings are equal ignoring
+     * case, as by {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     * Unlike {@link String#toLowerCase()}, the length of the text never changes.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        StringBuilder folded = null;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int foldedCodePoint = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (foldedCodePoint != codePoint && folded == null) {
+                folded = new StringBuilder(text.length()).append(text, 0, i);
+            }
+            if (folded != null) {
+                folded.appendCodePoint(foldedCodePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return folded == null ? text : folded.toString();
+    }
+
+    /**
+     * Returns the words of {@code sentence}, separated by whitespace as in {@link #containsWordIgnoreCase}, each
+     * folded by {@link #foldCase(String)}.
+     */
+    public static List<String> foldWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= sentence.length(); i++) {
+            if (i == sentence.length() || isWordSeparator(sentence.charAt(i))) {
+                if (i > start) {
+                    words.add(foldCase(sentence.substring(start, i)));
+                }
+                start = i + 1;
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the key ordering {@code text} among other text by the conventions of the default locale, ignoring
+     * differences in case but not in accents. Comparing keys is much cheaper than collating the texts themselves, so
+     * text that is compared many times, e.g. when sorting, should keep its key.
+     */
+    public static CollationKey getCollationKey(String text) {
+        requireNonNull(text);
+        return COLLATOR.getCollationKey(text);
+    }
+
+    private static Collator createCollator() {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}, i.e. the least number of
+     * characters that must be inserted, deleted or substituted, or pairs of adjacent characters that must be swapped,
+     * to turn one into the other. Unlike its restricted variant, this distance satisfies the triangle inequality.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int infinity = first.length() + second.length();
+
+        // distances[i + 1][j + 1] is the distance between the first i characters of first and the first j of second
+        int[][] distances = new int[first.length() + 2][second.length() + 2];
+        distances[0][0] = infinity;
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i + 1][0] = infinity;
+            distances[i + 1][1] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j + 1] = infinity;
+            distances[1][j + 1] = j;
+        }
+
+        Map<Character, Integer> lastRowByChar = new HashMap<>();
+        for (int i = 1; i <= first.length(); i++) {
+            int lastMatchingColumn = 0;
+            for (int j = 1; j <= second.length(); j++) {
+                int lastMatchingRow = lastRowByChar.getOrDefault(second.charAt(j - 1), 0);
+                int previousMatchingColumn = lastMatchingColumn;
+                int substitutionCost = 1;
+                if (first.charAt(i - 1) == second.charAt(j - 1)) {
+                    substitutionCost = 0;
+                    lastMatchingColumn = j;
+                }
+                int transpositionDistance = distances[lastMatchingRow][previousMatchingColumn]
+                        + (i - lastMatchingRow - 1) + 1 + (j - previousMatchingColumn - 1);
+                distances[i + 1][j + 1] = Math.min(
+                        Math.min(distances[i][j] + substitutionCost, distances[i + 1][j] + 1),
+                        Math.min(distances[i][j + 1] + 1, transpositionDistance));
+            }
+            lastRowByChar.put(first.charAt(i - 1), i);
+        }
+        return distances[first.length() + 1][second.length() + 1];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,131 @@
+package edutrack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of fields.
+ *
+ * The simple character-class rules of the fields are checked by scanning the characters once, and the others by a
+ * pattern compiled once, instead of compiling the validation regex on every call as {@code String#matches} does. Each
+ * scanner accepts exactly the strings matched by the regex given in its description.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns a predicate testing whether a whole string matches {@code regex}, which is compiled once.
+     */
+    public static Predicate<String> fullMatcher(String regex) {
+        requireNonNull(regex);
+        return Pattern.compile(regex).asMatchPredicate();
+    }
+
+    /**
+     * Returns true if {@code test} is non-empty and consists of ASCII letters, digits and {@code otherCharacters}, as
+     * matched by {@code [\p{Alnum}<otherCharacters>]+}.
+     */
+    public static boolean isAsciiAlphanumeric(String test, String otherCharacters) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && otherCharacters.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with a letter, mark or number in any language, followed by letters, marks,
+     * numbers and {@code otherCharacters}, as matched by {@code [\p{L}\p{M}\p{N}][\p{L}\p{M}\p{N}<otherCharacters>]*}.
+     */
+    public static boolean isUnicodeAlphanumeric(String test, String otherCharacters) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        int codePoint = test.codePointAt(0);
+        if (!isLetterMarkOrNumber(codePoint)) {
+            return false;
+        }
+        for (int i = Character.charCount(codePoint); i < test.length(); i += Character.charCount(codePoint)) {
+            codePoint = test.codePointAt(i);
+            if (!isLetterMarkOrNumber(codePoint) && otherCharacters.indexOf(codePoint) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with a character that is neither whitespace nor a control character,
+     * followed by printable ASCII characters and whitespace, as matched by
+     * {@code [^\s\p{Cntrl}][\p{Print}\p{Space}]*}.
+     */
+    public static boolean isPrintableText(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        int first = test.codePointAt(0);
+        if (isAsciiWhitespace(first) || isAsciiControl(first)) {
+            return false;
+        }
+        for (int i = Character.charCount(first); i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= ' ' && c <= '~') && !isAsciiWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isAsciiDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII whitespace character, as matched by {@code \s} and {@code \p{Space}}.
+     */
+    public static boolean isAsciiWhitespace(int c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean isAsciiControl(int c) {
+        return c < ' ' || c == 0x7F;
+    }
+
+    private static boolean isLetterMarkOrNumber(int codePoint) {
+        switch (Character.getType(codePoint)) {
+        case Character.UPPERCASE_LETTER:
+        case Character.LOWERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.NON_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return false;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package edutrack.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.logic.commands.CommandResult;
+import edutrack.model.Statistics;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import javafx.collections.ObservableList;
+
+/**
+ * Runs commands of a {@code Logic} on a dedicated worker thread, so that parsing, executing and saving a command never
+ * block the thread of the user interface.
+ *
+ * Commands run one at a time, in the order they were submitted. The filtered lists of the model are published to the
+ * thread of a publisher {@code Executor} (e.g. {@code Platform::runLater}) once per command, when it completes, and
+ * the result of each command is only handed to that thread after the changes the command made to those lists.
+ * The statistics of the address book are taken on the worker thread after each command and handed to the publisher
+ * thread in the same way, as an immutable snapshot.
+ */
+public class CommandRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final Executor publisher;
+    private final ExecutorService worker;
+    private final PublishedList<Person> filteredPersonList;
+    private final PublishedList<Group> filteredGroupList;
+    private Statistics statistics; // only used on the publisher thread
+
+    /**
+     * Creates a {@code CommandRunner} for {@code logic}, which must not run any command itself from now on, that
+     * hands its results to {@code publisher}.
+     */
+    public CommandRunner(Logic logic, Executor publisher) {
+        requireNonNull(logic);
+        requireNonNull(publisher);
+        this.logic = logic;
+        this.publisher = publisher;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        filteredPersonList = new PublishedList<>(logic.getFilteredPersonList(), publisher);
+        filteredGroupList = new PublishedList<>(logic.getFilteredGroupList(), publisher);
+        statistics = logic.getAddressBook().getStatistics();
+    }
+
+    /**
+     * Executes {@code commandText} on the worker thread after the commands submitted before it.
+     * The returned future is completed on the publisher thread, with the result of the command or with the
+     * exception it failed with.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            // a command making many changes, e.g. running a script, refreshes the lists once rather than midway
+            filteredPersonList.hold();
+            filteredGroupList.hold();
+            Runnable completion;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                completion = () -> result.complete(commandResult);
+            } catch (Throwable e) {
+                // anything that escapes would leave the future incomplete forever
+                completion = () -> result.completeExceptionally(e);
+            } finally {
+                filteredPersonList.release();
+                filteredGroupList.release();
+            }
+            Statistics commandStatistics = logic.getAddressBook().getStatistics();
+            Runnable commandCompletion = completion;
+            publisher.execute(() -> {
+                statistics = commandStatistics;
+                commandCompletion.run();
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of persons, to be used on the publisher thread.
+     *
+     * @see Logic#getFilteredPersonList()
+     */
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersonList.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of groups, to be used on the publisher thread.
+     *
+     * @see Logic#getFilteredGroupList()
+     */
+    public ObservableList<Group> getFilteredGroupList() {
+        return filteredGroupList.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the statistics of the address book after the last completed command, to be used on the publisher
+     * thread.
+     *
+     * @see edutrack.model.ReadOnlyAddressBook#getStatistics()
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Stops accepting commands, and waits for the submitted commands to complete, so that the {@code Logic} can be
+     * used by the calling thread afterwards.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for commands to complete");
+        }
+    }
+}
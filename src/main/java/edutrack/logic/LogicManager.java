@@ -3,6 +3,7 @@ package edutrack.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.GuiSettings;
@@ -17,6 +18,7 @@ import edutrack.model.Model;
 import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
+import edutrack.storage.PersistenceScheduler;
 import edutrack.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -29,18 +31,31 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String BACKGROUND_SAVE_FAILED_FORMAT =
+            "Warning: the changes made up to %s could not be saved due to the following error: %s\n"
+            + "EduTrack is trying to save them again.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final PersistenceScheduler persistenceScheduler;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved synchronously after every command that modifies it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new PersistenceScheduler(storage, model.getAddressBook()));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, whose address book is saved through
+     * {@code persistenceScheduler}.
+     */
+    public LogicManager(Model model, PersistenceScheduler persistenceScheduler) {
         this.model = model;
-        this.storage = storage;
+        this.persistenceScheduler = persistenceScheduler;
         addressBookParser = new AddressBookParser();
     }
 
@@ -59,16 +74,27 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // saves whatever the command changed, even if it failed partway, so that it can be undone
+            model.commitAddressBook();
+        }
 
+        Optional<PersistenceScheduler.FailedSave> failedSave;
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            failedSave = persistenceScheduler.saveIfModified();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
+        if (failedSave.isPresent()) {
+            // an earlier save failed, which does not make this command fail
+            return commandResult.withWarning(String.format(BACKGROUND_SAVE_FAILED_FORMAT,
+                    failedSave.get().getRequestTime(), failedSave.get().getCause().getMessage()));
+        }
         return commandResult;
     }
 
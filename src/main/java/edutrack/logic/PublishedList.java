@@ -0,0 +1,178 @@
+package edutrack.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is changed on one thread, which is kept up to date on the thread of a
+ * publisher {@code Executor}, e.g. the JavaFX Application Thread.
+ *
+ * Every change of the source list is recorded on the thread that made it. The first change recorded since the last
+ * publication schedules a single publication, which applies all the changes recorded by then at once, so a burst of
+ * changes only notifies the listeners of the copy once. The changes can also be held back while a sequence of them is
+ * made, e.g. by a script of commands, and published together when released.
+ */
+class PublishedList<T> {
+
+    private final ObservableList<T> copy;
+    private final ObservableList<T> unmodifiableCopy;
+    private final Executor publisher;
+    private final Queue<List<Part<T>>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isPublicationScheduled = new AtomicBoolean(false);
+    // the changes held back since hold() was called, or null if they are not held back; used only by the source thread
+    private List<List<Part<T>>> heldChanges;
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed while the copy is created, and whose later changes
+     * are applied to the copy by {@code publisher}.
+     */
+    PublishedList(ObservableList<T> source, Executor publisher) {
+        requireNonNull(source);
+        requireNonNull(publisher);
+        this.copy = FXCollections.observableArrayList(source);
+        this.unmodifiableCopy = FXCollections.unmodifiableObservableList(copy);
+        this.publisher = publisher;
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which must only be used on the thread of the publisher.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableCopy;
+    }
+
+    /**
+     * Holds back the changes made to the source from now on until {@link #release()}.
+     * Must be called on the thread that changes the source.
+     */
+    void hold() {
+        if (heldChanges == null) {
+            heldChanges = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Schedules a single publication of the changes held back since {@link #hold()}, if there were any, and publishes
+     * later changes as they are made again.
+     * Must be called on the thread that changes the source.
+     */
+    void release() {
+        if (heldChanges == null) {
+            return;
+        }
+        List<List<Part<T>>> changes = heldChanges;
+        heldChanges = null;
+        if (!changes.isEmpty()) {
+            pendingChanges.addAll(changes);
+            schedulePublication();
+        }
+    }
+
+    private void record(ListChangeListener.Change<? extends T> change) {
+        List<Part<T>> parts = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                parts.add(new Part<>(from, to - from, List.copyOf(change.getList().subList(from, to))));
+            } else {
+                parts.add(new Part<>(from, change.getRemovedSize(), List.copyOf(change.getAddedSubList())));
+            }
+        }
+        if (heldChanges != null) {
+            heldChanges.add(parts);
+            return;
+        }
+        pendingChanges.add(parts);
+        schedulePublication();
+    }
+
+    private void schedulePublication() {
+        if (isPublicationScheduled.compareAndSet(false, true)) {
+            publisher.execute(this::publish);
+        }
+    }
+
+    /**
+     * Applies the changes recorded so far to the copy.
+     */
+    private void publish() {
+        // cleared first, so that a change recorded from now on schedules another publication
+        isPublicationScheduled.set(false);
+        List<List<Part<T>>> changes = new ArrayList<>();
+        for (List<Part<T>> parts = pendingChanges.poll(); parts != null; parts = pendingChanges.poll()) {
+            changes.add(parts);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (changes.size() == 1 && changes.get(0).size() == 1) {
+            changes.get(0).get(0).applyTo(copy);
+            return;
+        }
+
+        List<T> contents = new ArrayList<>(copy);
+        for (List<Part<T>> parts : changes) {
+            contents = apply(contents, parts);
+        }
+        copy.setAll(contents);
+    }
+
+    /**
+     * Returns {@code contents} after the {@code parts} of a single change, in a single pass.
+     * As in a {@code ListChangeListener.Change}, the parts are in increasing order, and each part starts at its index
+     * in the list after the parts before it were applied.
+     */
+    private static <T> List<T> apply(List<T> contents, List<Part<T>> parts) {
+        List<T> result = new ArrayList<>(contents.size());
+        int index = 0;
+        for (Part<T> part : parts) {
+            while (result.size() < part.from) {
+                result.add(contents.get(index++));
+            }
+            index += part.removedSize;
+            result.addAll(part.added);
+        }
+        result.addAll(contents.subList(index, contents.size()));
+        return result;
+    }
+
+    /**
+     * A part of a change, which replaces {@code removedSize} elements starting at {@code from} with {@code added}.
+     */
+    private static class Part<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Part(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+}
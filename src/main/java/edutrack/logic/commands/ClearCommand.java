@@ -13,7 +13,7 @@ public class ClearCommand extends Command {
 
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_CONFIRMATION_REQUEST = "Are you sure you want to clear the student list? "
-            + "This action cannot be undone. Type 'clear confirm' to confirm.";
+            + "You can restore it afterwards with 'undo'. Type 'clear confirm' to confirm.";
     public static final String MESSAGE_CONFIRMATION_PENDING = "Please type 'clear confirm' to proceed.";
     public static final String MESSAGE_NO_SKIP = "Please type 'clear' first.";
     public static final String MESSAGE_SUCCESS = "Student list has been cleared!";
@@ -40,6 +40,14 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Returns a copy of this result whose feedback ends with {@code warning} on a new line.
+     */
+    public CommandResult withWarning(String warning) {
+        requireNonNull(warning);
+        return new CommandResult(feedbackToUser + "\n" + warning, showHelp, exit, showStats);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
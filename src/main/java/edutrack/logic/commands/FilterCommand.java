@@ -0,0 +1,74 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.logic.Messages;
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.model.Model;
+import edutrack.model.query.Query;
+
+/**
+ * Finds and lists all persons who match a query combining conditions on their details, tags and groups.
+ * The query is evaluated from the indexes of the address book, starting from its most selective conditions.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who match the specified conditions "
+            + "and displays them as a list with index numbers.\n"
+            + "Conditions: n/NAME_WORD, p/PHONE, e/EMAIL, a/ADDRESS_WORD, no/NOTE_WORD, t/TAG, g/GROUP. "
+            + "Words after a condition are alternatives for it, and a word ending with * matches the start of "
+            + "words. Conditions can be combined with AND (or just spaces), OR and NOT, and grouped with "
+            + "parentheses.\n"
+            + "Example: " + COMMAND_WORD + " g/CS2103T AND (t/needs_help OR no/late) AND NOT t/graduated";
+
+    public static final String MESSAGE_NO_MATCHES = "No persons match the given conditions.";
+
+    private final Query query;
+
+    /**
+     * Creates a FilterCommand to find persons matching {@code query}.
+     */
+    public FilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Query.Matches matches = query.match(model.getAddressBook());
+        if (matches.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCHES);
+        }
+
+        model.updateFilteredPersonList(matches);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return query.equals(otherFilterCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
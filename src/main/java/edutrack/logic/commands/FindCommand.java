@@ -2,17 +2,22 @@ package edutrack.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import edutrack.commons.util.ToStringBuilder;
 import edutrack.logic.Messages;
 import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.model.FuzzyNameIndex;
 import edutrack.model.Model;
 import edutrack.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, names only need to approximately contain a keyword, and the closest matches are listed first.
  */
 public class FindCommand extends Command {
 
@@ -32,29 +37,56 @@ public class FindCommand extends Command {
             + "Use exactly one of these formats:\n"
             + "1. Find by name: " + COMMAND_WORD + " n/KEYWORD [MORE_KEYWORDS]... "
             + "- Finds persons whose names contain any keyword\n"
-            + "2. Find by group: " + COMMAND_WORD + " g/GROUP_NAME - Finds persons in the specified group\n"
+            + "2. Find by similar name: " + COMMAND_WORD + " n~/KEYWORD [MORE_KEYWORDS]... "
+            + "- Finds persons whose names contain a word close to any keyword, closest first\n"
+            + "3. Find by group: " + COMMAND_WORD + " g/GROUP_NAME - Finds persons in the specified group\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " n/alice bob - Finds persons with 'alice' or 'bob' in their names\n"
+            + "  " + COMMAND_WORD + " n~/jonh - Finds persons with names like 'john' or 'jon'\n"
             + "  " + COMMAND_WORD + " g/CS2103T - Finds persons in group 'CS2103T'";
 
     public static final String MESSAGE_NO_MATCHES = "No persons match the given criteria.";
 
     private final Predicate<Person> predicate;
+    private final List<String> fuzzyNameKeywords;
 
     public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
+        this.fuzzyNameKeywords = null;
+    }
+
+    /**
+     * Creates a FindCommand to find persons whose names approximately contain any of {@code fuzzyNameKeywords}.
+     */
+    public FindCommand(List<String> fuzzyNameKeywords) {
+        this.predicate = null;
+        this.fuzzyNameKeywords = List.copyOf(fuzzyNameKeywords);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        int matched = (int) model.getFilteredPersonList().stream().filter(predicate).count();
-        if (matched == 0) {
-            throw new CommandException(MESSAGE_NO_MATCHES);
+        if (fuzzyNameKeywords != null) {
+            // The index finds the matches without visiting every name, so check for them before filtering
+            FuzzyNameIndex.Matches matches = model.getAddressBook().getFuzzyNameIndex().match(fuzzyNameKeywords);
+            if (matches.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_MATCHES);
+            }
+            model.updateFilteredPersonList(matches, matches.byDistance());
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
         }
 
+        // Filter first and restore the previous filter if nothing matched, so that the predicate is only evaluated
+        // once for every person
+        Predicate<Person> previousPredicate = model.getFilteredPersonListPredicate();
+        Comparator<Person> previousComparator = model.getFilteredPersonListComparator();
         model.updateFilteredPersonList(predicate);
+        if (model.getFilteredPersonList().isEmpty()) {
+            model.updateFilteredPersonList(previousPredicate, previousComparator);
+            throw new CommandException(MESSAGE_NO_MATCHES);
+        }
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
@@ -72,13 +104,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(fuzzyNameKeywords, otherFindCommand.fuzzyNameKeywords);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("fuzzyNameKeywords", fuzzyNameKeywords)
                 .toString();
     }
 }
@@ -4,7 +4,9 @@ import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import edutrack.commons.core.index.Index;
@@ -54,7 +56,6 @@ public class GroupAssignCommand extends Command {
         Group centralGroup = model.getGroup(group);
 
         List<Person> lastShownList = model.getFilteredPersonList();
-        int successCount = 0;
 
         // Validate all indices first
         for (Index index : indices) {
@@ -64,8 +65,12 @@ public class GroupAssignCommand extends Command {
         }
 
         // Assign group to each person
+        Map<Person, Person> replacements = new LinkedHashMap<>();
         for (Index index : indices) {
             Person personToEdit = lastShownList.get(index.getZeroBased());
+            if (replacements.containsKey(personToEdit)) {
+                continue; // the same index was given more than once
+            }
 
             // Add the central group to person's groups
             Set<Group> updatedGroups = new HashSet<>(personToEdit.getGroups());
@@ -84,10 +89,11 @@ public class GroupAssignCommand extends Command {
                         personToEdit.getNote()
                 );
 
-                model.setPerson(personToEdit, updatedPerson);
-                successCount++;
+                replacements.put(personToEdit, updatedPerson);
             }
         }
+        model.setPersons(replacements);
+        int successCount = replacements.size();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, centralGroup.toString(), successCount));
     }
@@ -4,7 +4,8 @@ import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import edutrack.logic.commands.exceptions.CommandException;
@@ -53,30 +54,27 @@ public class GroupDeleteCommand extends Command {
         // Get the central group reference
         Group centralGroup = model.getGroup(toDelete);
 
-        // Remove group from all persons
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int affectedPersonCount = 0;
-
-        for (Person person : allPersons) {
-            if (person.getGroups().contains(centralGroup)) {
-                // Create new person without this group
-                Set<Group> updatedGroups = new HashSet<>(person.getGroups());
-                updatedGroups.remove(centralGroup);
-
-                Person updatedPerson = new Person(
-                        person.getName(),
-                        person.getPhone(),
-                        person.getEmail(),
-                        person.getAddress(),
-                        person.getTags(),
-                        updatedGroups,
-                        person.getNote()
-                );
-
-                model.setPerson(person, updatedPerson);
-                affectedPersonCount++;
-            }
+        // Remove group from all its members, replacing them in one batch
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        for (Person person : model.getAddressBook().getPersonsInGroup(centralGroup)) {
+            // Create new person without this group
+            Set<Group> updatedGroups = new HashSet<>(person.getGroups());
+            updatedGroups.remove(centralGroup);
+
+            Person updatedPerson = new Person(
+                    person.getName(),
+                    person.getPhone(),
+                    person.getEmail(),
+                    person.getAddress(),
+                    person.getTags(),
+                    updatedGroups,
+                    person.getNote()
+            );
+
+            replacements.put(person, updatedPerson);
         }
+        model.setPersons(replacements);
+        int affectedPersonCount = replacements.size();
 
         // Delete the group from the model
         model.deleteGroup(centralGroup);
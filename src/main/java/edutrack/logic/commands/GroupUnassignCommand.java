@@ -4,7 +4,9 @@ import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import edutrack.commons.core.index.Index;
@@ -53,7 +55,6 @@ public class GroupUnassignCommand extends Command {
         Group centralGroup = model.getGroup(group);
 
         List<Person> lastShownList = model.getFilteredPersonList();
-        int successCount = 0;
 
         // Validate all indices first
         for (Index index : indices) {
@@ -63,8 +64,12 @@ public class GroupUnassignCommand extends Command {
         }
 
         // Unassign group from each person
+        Map<Person, Person> replacements = new LinkedHashMap<>();
         for (Index index : indices) {
             Person personToEdit = lastShownList.get(index.getZeroBased());
+            if (replacements.containsKey(personToEdit)) {
+                continue; // the same index was given more than once
+            }
 
             // Remove the central group from person's groups
             Set<Group> updatedGroups = new HashSet<>(personToEdit.getGroups());
@@ -83,10 +88,11 @@ public class GroupUnassignCommand extends Command {
                         personToEdit.getNote()
                 );
 
-                model.setPerson(personToEdit, updatedPerson);
-                successCount++;
+                replacements.put(personToEdit, updatedPerson);
             }
         }
+        model.setPersons(replacements);
+        int successCount = replacements.size();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, centralGroup.toString(), successCount));
     }
@@ -0,0 +1,126 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.logic.parser.AddressBookParser;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.Model;
+import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ *
+ * The commands run one after another without saving in between, so the whole script is saved once and undone at
+ * once. If any command fails, the changes made by the commands before it are discarded, and the filter and sort
+ * order of the person list are restored to what they were before the script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line, as a single change. "
+            + "Blank lines and lines starting with '#' are skipped. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " new_term.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_CANNOT_READ = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d of the script failed, so no changes were made: "
+            + "%2$s\n%3$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script";
+
+    private static final String COMMENT_START = "#";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, e.getMessage()), e);
+        }
+
+        Predicate<Person> predicate = model.getFilteredPersonListPredicate();
+        Comparator<Person> comparator = model.getFilteredPersonListComparator();
+        SortOrder sortOrder = model.getPersonListSortOrder();
+
+        AddressBookParser parser = new AddressBookParser();
+        int commandCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                continue;
+            }
+            try {
+                runLine(parser, line, model);
+            } catch (ParseException | CommandException e) {
+                rollback(model, predicate, comparator, sortOrder);
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, i + 1, line, e.getMessage()), e);
+            } catch (RuntimeException e) {
+                rollback(model, predicate, comparator, sortOrder);
+                throw e;
+            }
+            commandCount++;
+        }
+        // a clear requested by the script must not be confirmed by the next command of the user
+        model.setPendingClearConfirmation(false);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptPath));
+    }
+
+    private static void rollback(Model model, Predicate<Person> predicate, Comparator<Person> comparator,
+            SortOrder sortOrder) {
+        model.rollbackAddressBook();
+        model.setPersonListSortOrder(sortOrder);
+        model.updateFilteredPersonList(predicate, comparator);
+    }
+
+    private static void runLine(AddressBookParser parser, String line, Model model)
+            throws ParseException, CommandException {
+        Command command = parser.parseCommand(line);
+        if (command instanceof RunCommand || command instanceof UndoCommand || command instanceof RedoCommand) {
+            // these would run outside the single change the script is made of
+            throw new CommandException(String.format(MESSAGE_NOT_IN_SCRIPT, line.split("\\s+", 2)[0]));
+        }
+        if (!(command instanceof ClearCommand)) {
+            model.setPendingClearConfirmation(false);
+        }
+        command.execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherCommand = (RunCommand) other;
+        return scriptPath.equals(otherCommand.scriptPath);
+    }
+}
@@ -0,0 +1,78 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.logic.Messages;
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.model.Model;
+import edutrack.model.SearchIndex;
+import edutrack.model.person.Person;
+
+/**
+ * Finds and lists all persons whose name, phone, email, address or note contain all of the argument keywords.
+ * Keyword matching is case insensitive, and uses the full-text search index of the address book.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, phone, email, address "
+            + "or note contain all of the specified keywords (case-insensitive) and displays them as a list with "
+            + "index numbers. A keyword ending with " + SearchIndex.PREFIX_WILDCARD + " only matches the start of "
+            + "words.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " ale* serangoon";
+
+    public static final String MESSAGE_NO_MATCHES = "No persons match the given keywords.";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to find persons matching all of {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        SearchIndex searchIndex = model.getAddressBook().getSearchIndex();
+        Set<Person> matches = searchIndex.search(keywords);
+        if (matches.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCHES);
+        }
+
+        model.updateFilteredPersonList(searchIndex.asPredicate(keywords, matches));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -2,35 +2,38 @@ package edutrack.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.model.Model;
+import edutrack.model.person.SortOrder;
 
 /**
- * Sorts all persons shown in the address book by name alphabetically.
+ * Keeps the persons shown in the address book sorted by one or more keys.
  */
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons by name alphabetically.\n"
-            + "Example: " + COMMAND_WORD;
-    public static final String MESSAGE_SUCCESS = "List sorted alphabetically by name";
-    public static final String MESSAGE_INVALID_PARAMETERS = "Sort command does not accept any parameters";
-
-    private final boolean hasParameters;
-
-    public SortCommand(boolean hasParameters) {
-        this.hasParameters = hasParameters;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all persons by the given keys, the first "
+            + "deciding first, each ascending (asc) by default or descending (desc). Persons added or edited later are "
+            + "kept in this order.\n"
+            + "Parameters: [KEY [asc|desc]]... where KEY is name, email, groups (number of groups), tag (first tag) "
+            + "or note (whether there is a note). Sorts by name if no key is given.\n"
+            + "Example: " + COMMAND_WORD + " groups desc name";
+    public static final String MESSAGE_SUCCESS = "List sorted by %1$s";
+
+    private final SortOrder sortOrder;
+
+    /**
+     * Creates a SortCommand to sort the persons in {@code sortOrder}.
+     */
+    public SortCommand(SortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
+    public CommandResult execute(Model model) {
         requireNonNull(model);
-
-        if (hasParameters) {
-            throw new CommandException(MESSAGE_INVALID_PARAMETERS);
-        }
-        model.sortPersonList();
-        return new CommandResult(MESSAGE_SUCCESS);
+        model.setPersonListSortOrder(sortOrder);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder));
     }
 
     @Override
@@ -44,6 +47,6 @@ public class SortCommand extends Command {
         }
 
         SortCommand otherCommand = (SortCommand) other;
-        return hasParameters == otherCommand.hasParameters;
+        return sortOrder.equals(otherCommand.sortOrder);
     }
 }
@@ -3,7 +3,8 @@ package edutrack.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import edutrack.logic.commands.exceptions.CommandException;
@@ -42,30 +43,27 @@ public class TagDeleteCommand extends Command {
             throw new CommandException(MESSAGE_TAG_NOT_FOUND);
         }
 
-        // Remove tag from all persons
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int affectedPersonCount = 0;
-
-        for (Person person : allPersons) {
-            if (person.getTags().contains(toDelete)) {
-                // Create new person without this tag
-                Set<Tag> updatedTags = new HashSet<>(person.getTags());
-                updatedTags.remove(toDelete);
-
-                Person updatedPerson = new Person(
-                        person.getName(),
-                        person.getPhone(),
-                        person.getEmail(),
-                        person.getAddress(),
-                        updatedTags,
-                        person.getGroups(),
-                        person.getNote()
-                );
-
-                model.setPerson(person, updatedPerson);
-                affectedPersonCount++;
-            }
+        // Remove tag from all persons that have it, replacing them in one batch
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        for (Person person : model.getAddressBook().getPersonsWithTag(toDelete)) {
+            // Create new person without this tag
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            updatedTags.remove(toDelete);
+
+            Person updatedPerson = new Person(
+                    person.getName(),
+                    person.getPhone(),
+                    person.getEmail(),
+                    person.getAddress(),
+                    updatedTags,
+                    person.getGroups(),
+                    person.getNote()
+            );
+
+            replacements.put(person, updatedPerson);
         }
+        model.setPersons(replacements);
+        int affectedPersonCount = replacements.size();
 
         // Delete the tag from the model
         model.deleteTag(toDelete);
@@ -3,6 +3,9 @@ package edutrack.logic.parser;
 import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static edutrack.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -14,6 +17,7 @@ import edutrack.logic.commands.Command;
 import edutrack.logic.commands.DeleteCommand;
 import edutrack.logic.commands.EditCommand;
 import edutrack.logic.commands.ExitCommand;
+import edutrack.logic.commands.FilterCommand;
 import edutrack.logic.commands.FindCommand;
 import edutrack.logic.commands.FindTagCommand;
 import edutrack.logic.commands.GroupAssignCommand;
@@ -25,6 +29,9 @@ import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
 import edutrack.logic.commands.NoteCreateCommand;
 import edutrack.logic.commands.NoteDeleteCommand;
+import edutrack.logic.commands.RedoCommand;
+import edutrack.logic.commands.RunCommand;
+import edutrack.logic.commands.SearchCommand;
 import edutrack.logic.commands.SortCommand;
 import edutrack.logic.commands.StatsCommand;
 import edutrack.logic.commands.TagAssignCommand;
@@ -32,6 +39,7 @@ import edutrack.logic.commands.TagCreateCommand;
 import edutrack.logic.commands.TagDeleteCommand;
 import edutrack.logic.commands.TagListCommand;
 import edutrack.logic.commands.TagUnassignCommand;
+import edutrack.logic.commands.UndoCommand;
 import edutrack.logic.parser.exceptions.ParseException;
 
 /**
@@ -44,6 +52,7 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
 
     /**
      * Parses user input into command for execution.
@@ -67,69 +76,47 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case GroupCreateCommand.COMMAND_WORD:
-            return new GroupCreateCommandParser().parse(arguments);
-
-        case GroupDeleteCommand.COMMAND_WORD:
-            return new GroupDeleteCommandParser().parse(arguments);
-
-        case GroupAssignCommand.COMMAND_WORD:
-            return new GroupAssignCommandParser().parse(arguments);
-
-        case GroupUnassignCommand.COMMAND_WORD:
-            return new GroupUnassignCommandParser().parse(arguments);
-
-        case TagCreateCommand.COMMAND_WORD:
-            return new TagCreateCommandParser().parse(arguments);
-
-        case TagDeleteCommand.COMMAND_WORD:
-            return new TagDeleteCommandParser().parse(arguments);
-
-        case TagAssignCommand.COMMAND_WORD:
-            return new TagAssignCommandParser().parse(arguments);
-
-        case TagUnassignCommand.COMMAND_WORD:
-            return new TagUnassignCommandParser().parse(arguments);
-
-        case FindTagCommand.COMMAND_WORD:
-            return new FindTagCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case NoteCreateCommand.COMMAND_WORD:
-            return new NoteCreateCommandParser().parse(arguments);
-
-        case NoteDeleteCommand.COMMAND_WORD:
-            return new NoteDeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-        case ListCommand.COMMAND_WORD:
-        case ExitCommand.COMMAND_WORD:
-        case HelpCommand.COMMAND_WORD:
-        case GroupListCommand.COMMAND_WORD:
-        case TagListCommand.COMMAND_WORD:
-        case StatsCommand.COMMAND_WORD:
-            return new SingularCommandParser().parse(userInput);
-
-        default:
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
 
+    /**
+     * Returns the parsers of the arguments of each command, by command word.
+     * The parsers keep no state between inputs, so one instance of each serves every input.
+     */
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(GroupCreateCommand.COMMAND_WORD, new GroupCreateCommandParser());
+        parsers.put(GroupDeleteCommand.COMMAND_WORD, new GroupDeleteCommandParser());
+        parsers.put(GroupAssignCommand.COMMAND_WORD, new GroupAssignCommandParser());
+        parsers.put(GroupUnassignCommand.COMMAND_WORD, new GroupUnassignCommandParser());
+        parsers.put(TagCreateCommand.COMMAND_WORD, new TagCreateCommandParser());
+        parsers.put(TagDeleteCommand.COMMAND_WORD, new TagDeleteCommandParser());
+        parsers.put(TagAssignCommand.COMMAND_WORD, new TagAssignCommandParser());
+        parsers.put(TagUnassignCommand.COMMAND_WORD, new TagUnassignCommandParser());
+        parsers.put(FindTagCommand.COMMAND_WORD, new FindTagCommandParser());
+        parsers.put(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        parsers.put(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(NoteCreateCommand.COMMAND_WORD, new NoteCreateCommandParser());
+        parsers.put(NoteDeleteCommand.COMMAND_WORD, new NoteDeleteCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+
+        SingularCommandParser singularCommandParser = new SingularCommandParser();
+        for (String commandWord : List.of(ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+                ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, GroupListCommand.COMMAND_WORD,
+                TagListCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD,
+                RedoCommand.COMMAND_WORD)) {
+            parsers.put(commandWord, arguments -> singularCommandParser.parse(commandWord, arguments));
+        }
+        return Map.copyOf(parsers);
     }
 }
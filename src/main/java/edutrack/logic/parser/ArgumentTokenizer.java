@@ -1,9 +1,9 @@
 package edutrack.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -29,66 +29,47 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in order.
+     * A prefix is found where it follows a space, as in {@code "e/hi p/900"} but not {@code "e/hip/900"}, and where
+     * several prefixes start at the same position, the longest is found.
+     *
+     * The string is scanned once from left to right, matching the prefixes at each position by walking a trie of
+     * them, so the scan takes time linear in the length of the string regardless of the number of prefixes.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+        PrefixTrie trie = new PrefixTrie();
+        for (Prefix prefix : prefixes) {
+            trie.add(prefix);
+        }
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
         List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        for (int i = 1; i <= argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix prefix = trie.findLongestPrefixAt(argsString, i);
+            if (prefix != null) {
+                positions.add(new PrefixPosition(prefix, i));
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
      * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, in order
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
         // Insert a PrefixPosition to represent the preamble
         PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
         prefixPositions.add(0, preambleMarker);
@@ -124,6 +105,40 @@ public class ArgumentTokenizer {
         return value.trim();
     }
 
+    /**
+     * A trie of prefixes, in which each node is reached by the characters of the prefix it may end.
+     */
+    private static class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private Prefix prefix;
+
+        void add(Prefix prefix) {
+            PrefixTrie node = this;
+            for (char c : prefix.getPrefix().toCharArray()) {
+                node = node.children.computeIfAbsent(c, unused -> new PrefixTrie());
+            }
+            node.prefix = prefix;
+        }
+
+        /**
+         * Returns the longest prefix in this trie that {@code argsString} has at {@code position}, or null if none.
+         */
+        Prefix findLongestPrefixAt(String argsString, int position) {
+            PrefixTrie node = this;
+            Prefix longest = prefix;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longest = node.prefix;
+                }
+            }
+            return longest;
+        }
+    }
+
     /**
      * Represents a prefix's position in an arguments string.
      */
@@ -0,0 +1,251 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static edutrack.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NAME;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NOTE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_PHONE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_TAG;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import edutrack.logic.commands.FilterCommand;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.SearchIndex;
+import edutrack.model.query.AndQuery;
+import edutrack.model.query.FieldQuery;
+import edutrack.model.query.GroupQuery;
+import edutrack.model.query.NotQuery;
+import edutrack.model.query.OrQuery;
+import edutrack.model.query.Query;
+import edutrack.model.query.TagQuery;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ *
+ * The arguments are a query of the form below, where operators are case-insensitive and {@code AND} binds tighter
+ * than {@code OR}:
+ * <pre>
+ *     query     := and ("OR" and)*
+ *     and       := not (["AND"] not)*
+ *     not       := "NOT" not | "(" query ")" | condition
+ *     condition := PREFIX VALUE [VALUE]...
+ * </pre>
+ * A condition with several values matches any of them, like the name and group blocks of {@code find}.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    static final String MESSAGE_UNBALANCED_PARENTHESES = "Every opening parenthesis must have a closing one.\n\n"
+            + FilterCommand.MESSAGE_USAGE;
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Map<Prefix, FieldQuery.Field> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_NAME, FieldQuery.Field.NAME,
+            PREFIX_PHONE, FieldQuery.Field.PHONE,
+            PREFIX_EMAIL, FieldQuery.Field.EMAIL,
+            PREFIX_ADDRESS, FieldQuery.Field.ADDRESS,
+            PREFIX_NOTE, FieldQuery.Field.NOTE);
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_NOTE, PREFIX_TAG, PREFIX_GROUP);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        return new FilterCommand(parseQuery(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments into a query.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Query parseQuery(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new QueryReader(tokens).readQuery();
+    }
+
+    /**
+     * Splits {@code args} into words and parentheses.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (char c : args.toCharArray()) {
+            boolean isParenthesis = c == '(' || c == ')';
+            if (Character.isWhitespace(c) || isParenthesis) {
+                if (word.length() > 0) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                }
+                if (isParenthesis) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                word.append(c);
+            }
+        }
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+
+    private static Query createCondition(Prefix prefix, String value) throws ParseException {
+        if (prefix.equals(PREFIX_TAG)) {
+            return new TagQuery(ParserUtil.parseTag(value));
+        }
+        if (prefix.equals(PREFIX_GROUP)) {
+            return new GroupQuery(ParserUtil.parseGroup(value));
+        }
+        if (value.equals(SearchIndex.PREFIX_WILDCARD)) {
+            // a wildcard on its own has no word to match the start of
+            throw invalidFormat();
+        }
+        return new FieldQuery(FIELDS_BY_PREFIX.get(prefix), value);
+    }
+
+    /**
+     * Returns the condition prefix that {@code token} starts with, or null if there is none.
+     */
+    private static Prefix findPrefix(String token) {
+        for (Prefix prefix : PREFIXES) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code token} is a further value of a condition, rather than an operator, a parenthesis or the
+     * start of another condition.
+     */
+    private static boolean isValue(String token) {
+        return !token.equals(OPEN_PARENTHESIS) && !token.equals(CLOSE_PARENTHESIS)
+                && !token.equalsIgnoreCase(OPERATOR_AND) && !token.equalsIgnoreCase(OPERATOR_OR)
+                && !token.equalsIgnoreCase(OPERATOR_NOT) && findPrefix(token) == null;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Reads a query from the tokens of one input, keeping its position in them, so that the parser itself holds no
+     * state and can be shared.
+     */
+    private static class QueryReader {
+        private final List<String> tokens;
+        private int position;
+
+        QueryReader(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Reads the whole input as a single query.
+         */
+        Query readQuery() throws ParseException {
+            Query query = parseOr();
+            if (position < tokens.size()) {
+                throw peekIs(CLOSE_PARENTHESIS) ? new ParseException(MESSAGE_UNBALANCED_PARENTHESES) : invalidFormat();
+            }
+            return query;
+        }
+
+        private Query parseOr() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (peekIsOperator(OPERATOR_OR)) {
+                position++;
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+        }
+
+        private Query parseAnd() throws ParseException {
+            List<Query> operands = new ArrayList<>();
+            operands.add(parseNot());
+            while (position < tokens.size() && !peekIs(CLOSE_PARENTHESIS) && !peekIsOperator(OPERATOR_OR)) {
+                if (peekIsOperator(OPERATOR_AND)) {
+                    position++;
+                }
+                operands.add(parseNot());
+            }
+            return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+        }
+
+        private Query parseNot() throws ParseException {
+            if (position == tokens.size()) {
+                throw invalidFormat();
+            }
+            if (peekIsOperator(OPERATOR_NOT)) {
+                position++;
+                return new NotQuery(parseNot());
+            }
+            if (peekIs(OPEN_PARENTHESIS)) {
+                position++;
+                Query query = parseOr();
+                if (!peekIs(CLOSE_PARENTHESIS)) {
+                    throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+                }
+                position++;
+                return query;
+            }
+            return parseCondition();
+        }
+
+        /**
+         * Parses a prefix and its values, e.g. {@code g/CS2103T CS2101}.
+         */
+        private Query parseCondition() throws ParseException {
+            String token = tokens.get(position++);
+            Prefix prefix = findPrefix(token);
+            if (prefix == null) {
+                throw invalidFormat();
+            }
+
+            List<String> values = new ArrayList<>();
+            if (token.length() > prefix.getPrefix().length()) {
+                values.add(token.substring(prefix.getPrefix().length()));
+            }
+            while (position < tokens.size() && isValue(tokens.get(position))) {
+                values.add(tokens.get(position++));
+            }
+            if (values.isEmpty()) {
+                throw invalidFormat();
+            }
+
+            List<Query> conditions = new ArrayList<>();
+            for (String value : values) {
+                conditions.add(createCondition(prefix, value));
+            }
+            return conditions.size() == 1 ? conditions.get(0) : new OrQuery(conditions);
+        }
+
+        private boolean peekIs(String token) {
+            return position < tokens.size() && tokens.get(position).equals(token);
+        }
+
+        private boolean peekIsOperator(String operator) {
+            return position < tokens.size() && tokens.get(position).equalsIgnoreCase(operator);
+        }
+    }
+}
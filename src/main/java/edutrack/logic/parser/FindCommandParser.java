@@ -1,6 +1,7 @@
 package edutrack.logic.parser;
 
 import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static edutrack.logic.parser.CliSyntax.PREFIX_NAME;
 import static java.util.Objects.requireNonNull;
@@ -26,7 +27,7 @@ import edutrack.model.person.NameContainsKeywordsPredicate;
 public class FindCommandParser implements Parser<FindCommand> {
 
     static final String MESSAGE_SINGLE_PARAMETER_ONLY =
-            "Only one parameter block is allowed. Use either n/… or g/… (not both, not repeated).\n\n"
+            "Only one parameter block is allowed. Use either n/…, n~/… or g/… (not several, not repeated).\n\n"
             + FindCommand.MESSAGE_USAGE;
 
     @Override
@@ -37,7 +38,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         final String paddedArgs = args.startsWith(" ") ? args : " " + args;
 
         final ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(paddedArgs, PREFIX_NAME, PREFIX_GROUP);
+                ArgumentTokenizer.tokenize(paddedArgs, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_GROUP);
 
         final String preamble = argMultimap.getPreamble().trim();
         if (paddedArgs.trim().isEmpty() || !preamble.isEmpty()) {
@@ -45,19 +46,17 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         final var names = argMultimap.getAllValues(PREFIX_NAME);
+        final var fuzzyNames = argMultimap.getAllValues(PREFIX_FUZZY_NAME);
         final var groups = argMultimap.getAllValues(PREFIX_GROUP);
-        final boolean hasName = !names.isEmpty();
-        final boolean hasGroup = !groups.isEmpty();
+        final int blockCount = names.size() + fuzzyNames.size() + groups.size();
 
-        if (hasName && hasGroup) {
-            throw new ParseException(MESSAGE_SINGLE_PARAMETER_ONLY);
-        }
-        if (!hasName && !hasGroup) {
+        if (blockCount == 0) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        if (names.size() > 1 || groups.size() > 1) {
+        if (blockCount > 1) {
             throw new ParseException(MESSAGE_SINGLE_PARAMETER_ONLY);
         }
+        final boolean hasName = !names.isEmpty();
 
         if (hasName) {
             String keywords = names.get(0).trim();
@@ -67,6 +66,14 @@ public class FindCommandParser implements Parser<FindCommand> {
             return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+"))));
         }
 
+        if (!fuzzyNames.isEmpty()) {
+            String keywords = fuzzyNames.get(0).trim();
+            if (keywords.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(Arrays.asList(keywords.split("\\s+")));
+        }
+
         String groupKeywords = groups.get(0).trim();
         if (groupKeywords.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
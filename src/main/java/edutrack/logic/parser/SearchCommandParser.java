@@ -0,0 +1,38 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import edutrack.logic.commands.SearchCommand;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.SearchIndex;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (keywords.contains(SearchIndex.PREFIX_WILDCARD)) {
+            // a wildcard on its own has no word to match the start of
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        return new SearchCommand(keywords);
+    }
+}
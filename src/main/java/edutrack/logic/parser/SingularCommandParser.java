@@ -15,8 +15,10 @@ import edutrack.logic.commands.ExitCommand;
 import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.RedoCommand;
 import edutrack.logic.commands.StatsCommand;
 import edutrack.logic.commands.TagListCommand;
+import edutrack.logic.commands.UndoCommand;
 import edutrack.logic.parser.exceptions.ParseException;
 
 /**
@@ -52,6 +54,15 @@ public class SingularCommandParser implements Parser<Command> {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
+        return parse(commandWord, arguments);
+    }
+
+    /**
+     * Parses the {@code arguments} of the command {@code commandWord} into command for execution.
+     *
+     * @throws ParseException if {@code commandWord} is not a singular command or {@code arguments} are not empty
+     */
+    public Command parse(String commandWord, String arguments) throws ParseException {
         if (!commandWord.equals(ClearCommand.COMMAND_WORD) && hasExtraArguments(arguments)) {
             throw new ParseException(String.format(MESSAGE_EXTRA_ARGUMENTS, arguments.trim()));
         }
@@ -89,8 +100,14 @@ public class SingularCommandParser implements Parser<Command> {
         case StatsCommand.COMMAND_WORD:
             return new StatsCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer("This command word caused a ParseException: " + commandWord);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
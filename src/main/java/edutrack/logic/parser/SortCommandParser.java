@@ -2,27 +2,57 @@ package edutrack.logic.parser;
 
 import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import edutrack.logic.commands.SortCommand;
 import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.person.SortOrder;
+import edutrack.model.person.SortOrder.Criterion;
+import edutrack.model.person.SortOrder.Key;
 
 /**
  * Parses input arguments and creates a new SortCommand object
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    private static final String ASCENDING = "asc";
+    private static final String DESCENDING = "desc";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
-     * @throws ParseException if any parameters are provided with the sort command
+     * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SortCommand(SortOrder.BY_NAME);
+        }
 
-        if (!trimmedArgs.isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                SortCommand.MESSAGE_INVALID_PARAMETERS));
+        String[] words = trimmedArgs.split("\\s+");
+        List<Criterion> criteria = new ArrayList<>();
+        Set<Key> keys = EnumSet.noneOf(Key.class);
+        for (int i = 0; i < words.length; i++) {
+            Key key = Key.fromKeyword(words[i]);
+            if (key == null) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            if (!keys.add(key)) {
+                throw new ParseException(SortOrder.MESSAGE_DUPLICATE_KEY);
+            }
+            boolean isDescending = false;
+            if (i + 1 < words.length && isDirection(words[i + 1])) {
+                isDescending = words[++i].equalsIgnoreCase(DESCENDING);
+            }
+            criteria.add(new Criterion(key, isDescending));
         }
+        return new SortCommand(new SortOrder(criteria));
+    }
 
-        return new SortCommand(false);
+    private static boolean isDirection(String word) {
+        return word.equalsIgnoreCase(ASCENDING) || word.equalsIgnoreCase(DESCENDING);
     }
 }
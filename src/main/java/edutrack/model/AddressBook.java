@@ -2,8 +2,16 @@ package edutrack.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import edutrack.commons.util.PersistentList;
 import edutrack.commons.util.ToStringBuilder;
 import edutrack.model.group.Group;
 import edutrack.model.group.UniqueGroupList;
@@ -11,17 +19,38 @@ import edutrack.model.person.Person;
 import edutrack.model.person.UniquePersonList;
 import edutrack.model.tag.Tag;
 import edutrack.model.tag.UniqueTagList;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * The persons having each tag and belonging to each group are indexed, so that commands acting on a tag or group
+ * only visit its members, and so are the words of their details, for full-text search, and the words of their names,
+ * for fuzzy name search. The counters behind the statistics of the persons are kept alongside them. The indexes are
+ * updated by a listener of the person list, which is registered before any other listener can be, so that the
+ * indexes are already up to date when other listeners (e.g. a {@code FilteredList} of the persons) are notified of a
+ * change, and are never changed by an operation that fails.
+ *
+ * After every change, an immutable {@link AddressBookSnapshot} of the contents is published, which other threads can
+ * read without locking. It is updated from the changes of the lists, sharing the structure of the previous snapshot,
+ * so publishing it costs O(log n) per changed element.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** A change of more than this fraction of the elements of a list copies the list into the next snapshot. */
+    private static final int COPY_THRESHOLD_DIVISOR = 8;
+
     private final UniqueTagList tags;
     private final UniquePersonList persons;
     private final UniqueGroupList groups;
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final Map<Group, Set<Person>> personsByGroup = new HashMap<>();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final StatsAggregator statsAggregator = new StatsAggregator();
+    private volatile AddressBookSnapshot snapshot = AddressBookSnapshot.EMPTY;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,7 +65,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         groups = new UniqueGroupList();
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        persons.asUnmodifiableObservableList().addListener(this::updateIndexes);
+        persons.asUnmodifiableObservableList().addListener(this::publishPersons);
+        groups.asUnmodifiableObservableList().addListener(this::publishGroups);
+        tags.asUnmodifiableObservableList().addListener(this::publishTags);
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -83,6 +117,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTags(List.copyOf(newData.getTagList()));
     }
 
+    /**
+     * Resets the existing data of this {@code AddressBook} with {@code state}, e.g. an earlier snapshot of it.
+     * Only the persons that differ from {@code state} are replaced, and the group and tag lists only if they differ,
+     * so restoring a state a few changes away costs little more than those changes.
+     */
+    public void restore(ReadOnlyAddressBook state) {
+        requireNonNull(state);
+
+        persons.restorePersons(state.getPersonList());
+        if (!groups.asUnmodifiableObservableList().equals(state.getGroupList())) {
+            setGroups(List.copyOf(state.getGroupList()));
+        }
+        if (!tags.asUnmodifiableObservableList().equals(state.getTagList())) {
+            setTags(List.copyOf(state.getTagList()));
+        }
+    }
+
     //// person-level operations
 
     /**
@@ -118,6 +169,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each key of {@code replacements} in the list with its value, in place unless most of the list is
+     * replaced, so that the next snapshot shares all the other persons with the current one.
+     * Every key must exist in the address book, and the edited persons must not have the same identity as each other
+     * or as another existing person in the address book. If any replacement is invalid, nothing is changed.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        persons.setPersons(replacements);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -126,6 +189,155 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns an unmodifiable view of the persons that have {@code tag}, looked up in the tag index.
+     */
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> members = personsByTag.get(tag);
+        return members == null ? Collections.emptySet() : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons that belong to {@code group}, looked up in the group index.
+     */
+    @Override
+    public Set<Person> getPersonsInGroup(Group group) {
+        requireNonNull(group);
+        Set<Person> members = personsByGroup.get(group);
+        return members == null ? Collections.emptySet() : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the full-text search index of the persons, which is kept up to date with the person list.
+     */
+    @Override
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the fuzzy name index of the persons, which is kept up to date with the person list.
+     */
+    @Override
+    public FuzzyNameIndex getFuzzyNameIndex() {
+        return fuzzyNameIndex;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the persons, from counters that are kept up to date with the person
+     * list.
+     */
+    @Override
+    public Statistics getStatistics() {
+        return statsAggregator.getStatistics(groups.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the snapshot of the contents published after the last change.
+     */
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishPersons(ListChangeListener.Change<? extends Person> change) {
+        snapshot = new AddressBookSnapshot(applyChange(snapshot.getPersons(), change), snapshot.getGroups(),
+                snapshot.getTags());
+    }
+
+    private void publishGroups(ListChangeListener.Change<? extends Group> change) {
+        snapshot = new AddressBookSnapshot(snapshot.getPersons(), applyChange(snapshot.getGroups(), change),
+                snapshot.getTags());
+    }
+
+    private void publishTags(ListChangeListener.Change<? extends Tag> change) {
+        snapshot = new AddressBookSnapshot(snapshot.getPersons(), snapshot.getGroups(),
+                applyChange(snapshot.getTags(), change));
+    }
+
+    /**
+     * Returns {@code list} after {@code change}, which was made to a list with the same elements.
+     * The list is copied instead if the change replaced a large part of it, e.g. when clearing it.
+     */
+    private static <T> PersistentList<T> applyChange(PersistentList<T> list,
+            ListChangeListener.Change<? extends T> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getTo() - change.getFrom();
+        }
+        if (changedCount > list.size() / COPY_THRESHOLD_DIVISOR) {
+            return PersistentList.copyOf(change.getList());
+        }
+
+        change.reset();
+        PersistentList<T> result = list;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    result = result.with(i, change.getList().get(i));
+                }
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                result = result.minus(from);
+            }
+            for (int i = from; i < change.getTo(); i++) {
+                result = result.plus(i, change.getList().get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates the indexes with the persons removed from and added to the person list by {@code change}.
+     * Persons that were both removed and added, e.g. by replacing the whole list with mostly the same persons, are
+     * left in the indexes.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        }
+        added.removeIf(removed::remove);
+        removed.forEach(this::unindex);
+        added.forEach(this::index);
+    }
+
+    private void index(Person person) {
+        searchIndex.add(person);
+        fuzzyNameIndex.add(person);
+        statsAggregator.add(person);
+        person.getTags().forEach(tag -> personsByTag.computeIfAbsent(tag, unused -> new LinkedHashSet<>())
+                .add(person));
+        person.getGroups().forEach(group -> personsByGroup.computeIfAbsent(group, unused -> new LinkedHashSet<>())
+                .add(person));
+    }
+
+    private void unindex(Person person) {
+        searchIndex.remove(person);
+        fuzzyNameIndex.remove(person);
+        statsAggregator.remove(person);
+        person.getTags().forEach(tag -> removeMember(personsByTag, tag, person));
+        person.getGroups().forEach(group -> removeMember(personsByGroup, group, person));
+    }
+
+    private static <K> void removeMember(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> members = index.get(key);
+        if (members != null) {
+            members.remove(person);
+            if (members.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
     /**
      * Removes the given group from the address book.
      * The group must exist in the address book.
@@ -199,13 +411,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         tags.remove(key);
     }
 
-    /**
-     * Sorts the internal list of persons by name alphabetically.
-     */
-    public void sortPersonList() {
-        persons.sortByName();
-    }
-
     //// util methods
 
     @Override
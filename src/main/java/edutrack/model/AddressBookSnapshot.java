@@ -0,0 +1,113 @@
+package edutrack.model;
+
+import edutrack.commons.util.PersistentList;
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable snapshot of the contents of an address book, which can be read on any thread without locking.
+ *
+ * The lists of a snapshot are {@link PersistentList}s, so the snapshot after a change shares all but O(log n) of its
+ * structure with the snapshot before it. Persons, groups and tags are immutable themselves.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(PersistentList.empty(),
+            PersistentList.empty(), PersistentList.empty());
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Group> groups;
+    private final PersistentList<Tag> tags;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Group> groupList;
+    private final ObservableList<Tag> tagList;
+
+    /**
+     * Creates a snapshot of the given lists.
+     */
+    public AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Group> groups,
+            PersistentList<Tag> tags) {
+        this.persons = persons;
+        this.groups = groups;
+        this.tags = tags;
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        groupList = FXCollections.unmodifiableObservableList(FXCollections.observableList(groups));
+        tagList = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}, copying its lists.
+     */
+    public static AddressBookSnapshot copyOf(ReadOnlyAddressBook source) {
+        return new AddressBookSnapshot(PersistentList.copyOf(source.getPersonList()),
+                PersistentList.copyOf(source.getGroupList()), PersistentList.copyOf(source.getTagList()));
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentList<Group> getGroups() {
+        return groups;
+    }
+
+    public PersistentList<Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return groupList;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tagList;
+    }
+
+    /**
+     * Returns this snapshot, which never changes.
+     */
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons)
+                && groups.equals(otherSnapshot.groups)
+                && tags.equals(otherSnapshot.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode() * 31 + groups.hashCode() * 17 + tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
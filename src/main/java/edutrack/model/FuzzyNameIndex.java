@@ -0,0 +1,233 @@
+package edutrack.model;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.person.Person;
+
+/**
+ * A BK-tree of the words in the names of persons, for finding names that approximately match a keyword.
+ *
+ * Words are case-folded by {@link StringUtil#foldWords(String)} and compared by
+ * {@link StringUtil#editDistance(String, String)}. Every child of a word in the tree is keyed by its distance to the
+ * word, so by the triangle inequality a search only descends into the children whose key is within the tolerance of
+ * the distance between the keyword and the word, instead of comparing the keyword with every name.
+ *
+ * A BK-tree cannot remove words, so a word that no person has any more is kept in the tree and skipped by searches,
+ * until such words outnumber the others and the tree is rebuilt.
+ */
+public class FuzzyNameIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private Node root;
+    private int unusedWordCount = 0;
+    private long modificationCount = 0;
+
+    /**
+     * Creates an empty index.
+     */
+    public FuzzyNameIndex() {}
+
+    /**
+     * Creates an index of the names of {@code persons}.
+     */
+    public FuzzyNameIndex(List<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the words in the name of {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String word : person.getName().getFoldedWords()) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByWord.put(word, persons);
+                insert(word);
+            } else if (persons.isEmpty()) {
+                unusedWordCount--;
+            }
+            persons.add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words in the name of {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String word : person.getName().getFoldedWords()) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                unusedWordCount++;
+            }
+        }
+        if (unusedWordCount > personsByWord.size() - unusedWordCount) {
+            rebuild();
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the tolerated edit distance between {@code keyword} and a matching word, which grows with the length
+     * of the keyword so that short keywords do not match almost every name.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Returns the persons with a word in their name that approximately matches any of {@code keywords}, each mapped
+     * to the smallest edit distance between such a word and a keyword.
+     * Each keyword must be a single non-empty word.
+     */
+    public Map<Person, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> distances = new HashMap<>();
+        for (String keyword : keywords) {
+            List<String> words = StringUtil.foldWords(keyword);
+            checkArgument(words.size() == 1, "Keyword should be a single non-empty word");
+            search(words.get(0), (word, distance) -> personsByWord.get(word)
+                    .forEach(person -> distances.merge(person, distance, Math::min)));
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the persons that approximately match any of {@code keywords}, as by {@link #search(List)}.
+     * The search is done when the matches are first used, and again whenever the index has changed since, so they
+     * also evaluate persons that are added or edited after they were created.
+     */
+    public Matches match(List<String> keywords) {
+        List<String> searchKeywords = List.copyOf(keywords);
+        search(searchKeywords); // validates the keywords
+        return new Matches(searchKeywords);
+    }
+
+    /**
+     * Calls {@code consumer} with every word in use that is within the tolerated distance of {@code keyword}.
+     */
+    private void search(String keyword, WordConsumer consumer) {
+        int maxDistance = getMaxDistance(keyword);
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(keyword, node.word);
+            if (distance <= maxDistance && !personsByWord.get(node.word).isEmpty()) {
+                consumer.accept(node.word, distance);
+            }
+            for (int key = Math.max(1, distance - maxDistance); key <= distance + maxDistance; key++) {
+                Node child = node.children.get(key);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words in use only.
+     */
+    private void rebuild() {
+        personsByWord.values().removeIf(Set::isEmpty);
+        unusedWordCount = 0;
+        root = null;
+        personsByWord.keySet().forEach(this::insert);
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their distance to the word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Receives a word found by a search and its distance to the keyword.
+     */
+    @FunctionalInterface
+    private interface WordConsumer {
+        void accept(String word, int distance);
+    }
+
+    /**
+     * The persons that approximately match some keywords, which tests whether a person matches and ranks persons by
+     * how closely they match.
+     */
+    public class Matches implements Predicate<Person> {
+        private final List<String> keywords;
+        private long searchedModificationCount = -1;
+        private Map<Person, Integer> distances;
+
+        private Matches(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        private Map<Person, Integer> getDistances() {
+            if (searchedModificationCount != modificationCount) {
+                distances = search(keywords);
+                searchedModificationCount = modificationCount;
+            }
+            return distances;
+        }
+
+        /**
+         * Returns true if no person matches.
+         */
+        public boolean isEmpty() {
+            return getDistances().isEmpty();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return getDistances().containsKey(person);
+        }
+
+        /**
+         * Returns a comparator that orders persons by how closely they match, closest first.
+         */
+        public Comparator<Person> byDistance() {
+            return Comparator.comparingInt(person -> getDistances().getOrDefault(person, Integer.MAX_VALUE));
+        }
+    }
+}
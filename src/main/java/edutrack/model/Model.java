@@ -1,11 +1,14 @@
 package edutrack.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
 import edutrack.model.tag.Tag;
 import javafx.collections.ObservableList;
 
@@ -56,6 +59,38 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Saves the current state of the address book in its history, if it changed since the last saved state.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier state of the address book to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Restores the state of the address book before the last saved change.
+     * There must be an earlier state, as reported by {@link #canUndoAddressBook()}.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns true if there is an undone state of the address book to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the state of the address book that was last undone.
+     * There must be an undone state, as reported by {@link #canRedoAddressBook()}.
+     */
+    void redoAddressBook();
+
+    /**
+     * Discards the changes made to the address book since its state was last saved by {@link #commitAddressBook()}.
+     */
+    void rollbackAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,17 +115,48 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each key of {@code replacements} with its value, all at once.
+     * Every key must exist in the address book, and the edited persons must not have the same identity as each other
+     * or as another existing person in the address book.
+     */
+    void setPersons(Map<Person, Person> replacements);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and shows the persons
+     * in the order of the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
-    /** Sorts the filtered person list by name in alphabetical order */
-    void sortPersonList();
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and shows the persons
+     * in the order of {@code comparator}, with ties in the sort order of the person list, or only in the sort order
+     * if {@code comparator} is null.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /** Returns the predicate that currently filters the person list. */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the comparator given with the current filter of the person list, or null if there was none.
+     * The sort order of the person list is not included.
+     */
+    Comparator<Person> getFilteredPersonListComparator();
+
+    /**
+     * Keeps the filtered person list in {@code sortOrder} from now on, including persons added or edited later, or in
+     * the order of the address book if {@code sortOrder} is null.
+     */
+    void setPersonListSortOrder(SortOrder sortOrder);
+
+    /** Returns the sort order of the person list, or null if it is in the order of the address book. */
+    SortOrder getPersonListSortOrder();
 
 
     // Clear command related functionality
@@ -4,6 +4,10 @@ import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,9 +15,11 @@ import edutrack.commons.core.GuiSettings;
 import edutrack.commons.core.LogsCenter;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
 import edutrack.model.tag.Tag;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,10 +28,14 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
+    private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Tag> filteredTags;
     private final FilteredList<Group> filteredGroups;
+    private Comparator<Person> filterComparator;
+    private SortOrder sortOrder;
 
     private boolean pendingClearConfirmation = false;
 
@@ -39,9 +49,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedAddressBook = new VersionedAddressBook(this.addressBook, this.userPrefs.getUndoHistoryDepth());
 
         filteredTags = new FilteredList<>(this.addressBook.getTagList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredGroups = new FilteredList<>(this.addressBook.getGroupList());
 
         updateFilteredTagList(PREDICATE_SHOW_ALL_TAGS);
@@ -58,6 +70,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedAddressBook.setMaxDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -99,6 +112,36 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void commitAddressBook() {
+        versionedAddressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return versionedAddressBook.canUndo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        versionedAddressBook.undo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return versionedAddressBook.canRedo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        versionedAddressBook.redo();
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        versionedAddressBook.rollback();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -135,21 +178,79 @@ public class ModelManager implements Model {
         updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
     }
 
+    @Override
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.setPersons(replacements);
+
+        // Sync any new groups from the edited persons, checking each distinct group once
+        Set<Group> editedGroups = new HashSet<>();
+        replacements.values().forEach(editedPerson -> editedGroups.addAll(editedPerson.getGroups()));
+        for (Group group : editedGroups) {
+            if (!addressBook.hasGroup(group)) {
+                addressBook.addGroup(group);
+            }
+        }
+
+        updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then ordered by the current comparator and sort order, if any.
+     * The view inserts added and edited persons at their place in the order, found by binary search, instead of
+     * sorting the list again.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        updateFilteredPersonList(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        filterComparator = comparator;
+        updatePersonListComparator();
+    }
+
+    private void updatePersonListComparator() {
+        Comparator<Person> combined = filterComparator == null ? sortOrder
+                : sortOrder == null ? filterComparator
+                : filterComparator.thenComparing(sortOrder);
+        if (sortedPersons.getComparator() != combined) {
+            sortedPersons.setComparator(combined);
+        }
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate::test;
+    }
+
+    @Override
+    public Comparator<Person> getFilteredPersonListComparator() {
+        return filterComparator;
+    }
+
+    @Override
+    public void setPersonListSortOrder(SortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+        updatePersonListComparator();
+    }
+
+    @Override
+    public SortOrder getPersonListSortOrder() {
+        return sortOrder;
     }
 
     //=========== Groups =============================================================================
@@ -225,12 +326,6 @@ public class ModelManager implements Model {
         filteredTags.setPredicate(predicate);
     }
 
-    @Override
-    public void sortPersonList() {
-        addressBook.sortPersonList();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -245,7 +340,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredGroups.equals(otherModelManager.filteredGroups)
                 && filteredTags.equals(otherModelManager.filteredTags);
     }
@@ -1,5 +1,9 @@
 package edutrack.model;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
 import edutrack.model.tag.Tag;
@@ -28,4 +32,65 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Tag> getTagList();
 
+    /**
+     * Returns an unmodifiable set of the persons that have {@code tag}.
+     * The default implementation scans the persons list.
+     */
+    default Set<Person> getPersonsWithTag(Tag tag) {
+        Set<Person> persons = new LinkedHashSet<>();
+        for (Person person : getPersonList()) {
+            if (person.getTags().contains(tag)) {
+                persons.add(person);
+            }
+        }
+        return Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns an unmodifiable set of the persons that belong to {@code group}.
+     * The default implementation scans the persons list.
+     */
+    default Set<Person> getPersonsInGroup(Group group) {
+        Set<Person> persons = new LinkedHashSet<>();
+        for (Person person : getPersonList()) {
+            if (person.getGroups().contains(group)) {
+                persons.add(person);
+            }
+        }
+        return Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns a full-text search index of the persons list.
+     * The default implementation indexes the persons list on every call.
+     */
+    default SearchIndex getSearchIndex() {
+        return new SearchIndex(getPersonList());
+    }
+
+    /**
+     * Returns a fuzzy index of the names in the persons list.
+     * The default implementation indexes the persons list on every call.
+     */
+    default FuzzyNameIndex getFuzzyNameIndex() {
+        return new FuzzyNameIndex(getPersonList());
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents, which can be read on any thread while this address book
+     * keeps changing.
+     * The default implementation copies the lists on every call.
+     */
+    default AddressBookSnapshot getSnapshot() {
+        return AddressBookSnapshot.copyOf(this);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the persons list.
+     * The default implementation counts the persons list on every call.
+     */
+    default Statistics getStatistics() {
+        return new StatsAggregator(getPersonList()).getStatistics(getGroupList());
+    }
+
 }
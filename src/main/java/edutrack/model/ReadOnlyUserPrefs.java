@@ -2,6 +2,7 @@ package edutrack.model;
 
 import java.nio.file.Path;
 
+import edutrack.commons.core.AddressBookFormat;
 import edutrack.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    int getUndoHistoryDepth();
+
 }
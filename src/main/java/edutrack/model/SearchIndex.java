@@ -0,0 +1,236 @@
+package edutrack.model;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.person.Person;
+
+/**
+ * An inverted index of the words in the name, phone, email, address and note of persons, for full-text search.
+ *
+ * Words are case-folded by {@link StringUtil#foldWords(String)}. Every word maps to the persons that contain it, and
+ * is itself indexed by its trigrams (or by the whole word, if it is shorter than 3 characters), so that a substring
+ * query only checks the few words sharing its trigrams instead of every person.
+ *
+ * A search term ending with {@value #PREFIX_WILDCARD} matches the words that start with the rest of the term. Any
+ * other term matches the words that contain it. A person matches a search if every term matches one of its words.
+ */
+public class SearchIndex {
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final NavigableMap<String, Set<Person>> personsByWord = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private long modificationCount = 0;
+
+    /**
+     * Creates an empty index.
+     */
+    public SearchIndex() {}
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public SearchIndex(List<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the words of {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByWord.put(word, persons);
+                for (String gram : getGrams(word)) {
+                    wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            persons.add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words of {@code person} from the index.
+     */
+    void remove(Person person) {
+        for (String word : getWords(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+                continue;
+            }
+            personsByWord.remove(word);
+            for (String gram : getGrams(word)) {
+                Set<String> words = wordsByGram.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns a count that increases whenever a person is added to or removed from the index, so that results derived
+     * from the index can tell when they may be out of date.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the persons that match all of {@code terms}.
+     * Each term must be a single non-empty word, optionally followed by {@value #PREFIX_WILDCARD}.
+     */
+    public Set<Person> search(List<String> terms) {
+        requireNonNull(terms);
+        List<Set<Person>> matchesByTerm = new ArrayList<>();
+        for (String term : terms) {
+            Set<Person> matches = search(term);
+            if (matches.isEmpty()) {
+                return Collections.emptySet();
+            }
+            matchesByTerm.add(matches);
+        }
+        if (matchesByTerm.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // intersect starting from the smallest set, so that the result is never larger than it
+        matchesByTerm.sort(Comparator.comparingInt(Set::size));
+        Set<Person> result = new HashSet<>(matchesByTerm.get(0));
+        for (int i = 1; i < matchesByTerm.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchesByTerm.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person matches all of {@code terms}.
+     * The search is done when the predicate is created, and again whenever the index has changed since, so the
+     * predicate also evaluates persons that are added or edited after it was created.
+     */
+    public Predicate<Person> asPredicate(List<String> terms) {
+        List<String> searchTerms = List.copyOf(terms);
+        return asPredicate(searchTerms, search(searchTerms));
+    }
+
+    /**
+     * Similar to {@link #asPredicate(List)}, but starts from {@code matches}, the result of {@link #search(List)} for
+     * {@code terms} on the current index, instead of searching again.
+     */
+    public Predicate<Person> asPredicate(List<String> terms, Set<Person> matches) {
+        requireNonNull(matches);
+        List<String> searchTerms = List.copyOf(terms);
+        long matchesModificationCount = modificationCount;
+        return new Predicate<>() {
+            private long searchedModificationCount = matchesModificationCount;
+            private Set<Person> currentMatches = matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (searchedModificationCount != modificationCount) {
+                    currentMatches = search(searchTerms);
+                    searchedModificationCount = modificationCount;
+                }
+                return currentMatches.contains(person);
+            }
+        };
+    }
+
+    private Set<Person> search(String term) {
+        requireNonNull(term);
+        boolean isPrefix = term.endsWith(PREFIX_WILDCARD);
+        List<String> words = StringUtil.foldWords(isPrefix ? term.substring(0, term.length() - 1) : term);
+        checkArgument(words.size() == 1, "Search term should be a single non-empty word");
+        String query = words.get(0);
+
+        Set<Person> matches = new HashSet<>();
+        if (isPrefix) {
+            for (Map.Entry<String, Set<Person>> entry : personsByWord.tailMap(query, true).entrySet()) {
+                if (!entry.getKey().startsWith(query)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        } else {
+            for (String word : findWordsContaining(query)) {
+                matches.addAll(personsByWord.get(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed words that contain {@code query}.
+     */
+    private Set<String> findWordsContaining(String query) {
+        Set<String> candidates = new HashSet<>();
+        if (query.length() < GRAM_LENGTH) {
+            // a short query lies within one of the grams of every word containing it
+            wordsByGram.forEach((gram, words) -> {
+                if (gram.contains(query)) {
+                    candidates.addAll(words);
+                }
+            });
+        } else {
+            // a word containing the query contains all its grams; start from the rarest gram
+            List<Set<String>> wordsByQueryGram = new ArrayList<>();
+            for (String gram : getGrams(query)) {
+                Set<String> words = wordsByGram.get(gram);
+                if (words == null) {
+                    return Collections.emptySet();
+                }
+                wordsByQueryGram.add(words);
+            }
+            wordsByQueryGram.sort(Comparator.comparingInt(Set::size));
+            candidates.addAll(wordsByQueryGram.get(0));
+            for (int i = 1; i < wordsByQueryGram.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(wordsByQueryGram.get(i));
+            }
+        }
+        candidates.removeIf(word -> !word.contains(query));
+        return candidates;
+    }
+
+    private static Set<String> getWords(Person person) {
+        Set<String> words = new HashSet<>();
+        words.addAll(person.getName().getFoldedWords());
+        words.addAll(StringUtil.foldWords(person.getPhone().value));
+        words.addAll(StringUtil.foldWords(person.getEmail().value));
+        words.addAll(StringUtil.foldWords(person.getAddress().value));
+        words.addAll(StringUtil.foldWords(person.getNote().value));
+        return words;
+    }
+
+    private static Set<String> getGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        if (word.length() < GRAM_LENGTH) {
+            grams.add(word);
+        } else {
+            for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,137 @@
+package edutrack.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.group.Group;
+
+/**
+ * An immutable snapshot of the statistics of an address book: how many students it has, how many of them have each
+ * tag, and the same counts within each of its groups.
+ * Tags are counted by their lower-cased names, so tags differing only in case are counted together.
+ */
+public class Statistics {
+
+    private final Counts total;
+    private final Map<Group, Counts> countsByGroup;
+
+    /**
+     * Creates a snapshot with the {@code total} counts of the address book and the counts of each of its groups,
+     * in the iteration order of {@code countsByGroup}.
+     */
+    public Statistics(Counts total, Map<Group, Counts> countsByGroup) {
+        requireNonNull(total);
+        this.total = total;
+        this.countsByGroup = Collections.unmodifiableMap(new LinkedHashMap<>(countsByGroup));
+    }
+
+    /**
+     * Returns the counts over all students.
+     */
+    public Counts getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns an unmodifiable map from each group, in the order of the group list, to the counts over its students.
+     */
+    public Map<Group, Counts> getCountsByGroup() {
+        return countsByGroup;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Statistics)) {
+            return false;
+        }
+
+        Statistics otherStatistics = (Statistics) other;
+        return total.equals(otherStatistics.total)
+                && countsByGroup.equals(otherStatistics.countsByGroup);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, countsByGroup);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("total", total)
+                .add("countsByGroup", countsByGroup)
+                .toString();
+    }
+
+    /**
+     * The number of students in a set of students, and how many of them have each tag.
+     */
+    public static class Counts {
+        public static final Counts EMPTY = new Counts(0, Collections.emptyMap());
+
+        private final int studentCount;
+        private final SortedMap<String, Integer> tagCounts;
+
+        /**
+         * Creates counts of {@code studentCount} students, of which {@code tagCounts} maps each lower-cased tag name
+         * to the number that have the tag.
+         */
+        public Counts(int studentCount, Map<String, Integer> tagCounts) {
+            this.studentCount = studentCount;
+            this.tagCounts = Collections.unmodifiableSortedMap(new TreeMap<>(tagCounts));
+        }
+
+        public int getStudentCount() {
+            return studentCount;
+        }
+
+        /**
+         * Returns an unmodifiable map from each lower-cased tag name in use to the number of students having it,
+         * sorted by tag name.
+         */
+        public SortedMap<String, Integer> getTagCounts() {
+            return tagCounts;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Counts)) {
+                return false;
+            }
+
+            Counts otherCounts = (Counts) other;
+            return studentCount == otherCounts.studentCount
+                    && tagCounts.equals(otherCounts.tagCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentCount, tagCounts);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("studentCount", studentCount)
+                    .add("tagCounts", tagCounts)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edutrack.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Keeps the counters behind the {@link Statistics} of a set of persons: the number of persons, the number having each
+ * tag, and both within each group.
+ *
+ * The counters are updated as persons are added and removed, so taking a snapshot never visits the persons. A
+ * snapshot of the counters of the whole set or of a group is kept until a person counted in it changes, so a snapshot
+ * after an edit only copies the counters of the groups of the edited persons.
+ */
+public class StatsAggregator {
+
+    private final Counter total = new Counter();
+    private final Map<Group, Counter> countersByGroup = new HashMap<>();
+
+    /**
+     * Creates an aggregator of no persons.
+     */
+    public StatsAggregator() {}
+
+    /**
+     * Creates an aggregator of {@code persons}.
+     */
+    public StatsAggregator(List<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Counts {@code person} in the counters of all persons and of each of its groups.
+     */
+    void add(Person person) {
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been added before.
+     */
+    void remove(Person person) {
+        update(person, -1);
+    }
+
+    private void update(Person person, int delta) {
+        String[] tagNames = person.getTags().stream().map(StatsAggregator::getTagName).toArray(String[]::new);
+        total.update(tagNames, delta);
+        for (Group group : person.getGroups()) {
+            Counter counter = countersByGroup.computeIfAbsent(group, unused -> new Counter());
+            counter.update(tagNames, delta);
+            if (counter.studentCount == 0) {
+                countersByGroup.remove(group);
+            }
+        }
+    }
+
+    private static String getTagName(Tag tag) {
+        return tag.tagName.toLowerCase();
+    }
+
+    /**
+     * Returns a snapshot of the counters, with the counts of each of {@code groups} in order. Groups that no person
+     * belongs to have empty counts.
+     */
+    public Statistics getStatistics(List<Group> groups) {
+        requireNonNull(groups);
+        Map<Group, Statistics.Counts> countsByGroup = new LinkedHashMap<>();
+        for (Group group : groups) {
+            Counter counter = countersByGroup.get(group);
+            countsByGroup.put(group, counter == null ? Statistics.Counts.EMPTY : counter.getSnapshot());
+        }
+        return new Statistics(total.getSnapshot(), countsByGroup);
+    }
+
+    /**
+     * The counters of a set of persons, with a snapshot of them that is discarded whenever they change.
+     */
+    private static class Counter {
+        private final Map<String, Integer> tagCounts = new HashMap<>();
+        private int studentCount = 0;
+        private Statistics.Counts snapshot;
+
+        void update(String[] tagNames, int delta) {
+            studentCount += delta;
+            for (String tagName : tagNames) {
+                tagCounts.merge(tagName, delta, (count, unused) -> count + delta == 0 ? null : count + delta);
+            }
+            snapshot = null;
+        }
+
+        Statistics.Counts getSnapshot() {
+            if (snapshot == null) {
+                snapshot = new Statistics.Counts(studentCount, tagCounts);
+            }
+            return snapshot;
+        }
+    }
+}
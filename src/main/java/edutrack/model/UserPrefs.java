@@ -1,11 +1,13 @@
 package edutrack.model;
 
+import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import edutrack.commons.core.AddressBookFormat;
 import edutrack.commons.core.GuiSettings;
 
 /**
@@ -13,8 +15,12 @@ import edutrack.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, VersionedAddressBook.MESSAGE_INVALID_MAX_DEPTH);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +95,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +110,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
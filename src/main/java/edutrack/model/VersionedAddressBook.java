@@ -0,0 +1,138 @@
+package edutrack.model;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps the history of an {@link AddressBook}, so that changes to it can be undone and redone.
+ *
+ * The states in the history are the {@link AddressBookSnapshot}s published by the address book, which share all but
+ * the changed part of their structure with each other, so a state costs memory in proportion to the change that led
+ * to it rather than to the size of the address book. Undoing or redoing restores a state with
+ * {@link AddressBook#restore(ReadOnlyAddressBook)}, which only replaces the persons that differ from it.
+ *
+ * At most {@code maxDepth} states before the current one are kept; older states are forgotten.
+ */
+public class VersionedAddressBook {
+
+    public static final String MESSAGE_INVALID_MAX_DEPTH = "The history depth must not be negative";
+
+    private final AddressBook addressBook;
+    private final Deque<AddressBookSnapshot> undoStates = new ArrayDeque<>();
+    private final Deque<AddressBookSnapshot> redoStates = new ArrayDeque<>();
+    private AddressBookSnapshot currentState;
+    private int maxDepth;
+
+    /**
+     * Creates a history of {@code addressBook} whose current state is its current contents, keeping at most
+     * {@code maxDepth} earlier states.
+     */
+    public VersionedAddressBook(AddressBook addressBook, int maxDepth) {
+        requireNonNull(addressBook);
+        checkArgument(maxDepth >= 0, MESSAGE_INVALID_MAX_DEPTH);
+        this.addressBook = addressBook;
+        this.maxDepth = maxDepth;
+        currentState = addressBook.getSnapshot();
+    }
+
+    /**
+     * Saves the current contents of the address book as the current state, if they changed since the last saved
+     * state, and forgets the states that could be redone.
+     */
+    public void commit() {
+        AddressBookSnapshot state = addressBook.getSnapshot();
+        if (state == currentState) {
+            return;
+        }
+        undoStates.push(currentState);
+        trimUndoStates();
+        redoStates.clear();
+        currentState = state;
+    }
+
+    /**
+     * Returns true if there is an earlier state to restore, or changes made since the current state was saved.
+     */
+    public boolean canUndo() {
+        return hasUncommittedChanges() || !undoStates.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to restore.
+     * Changes made since the current state was saved would be lost by a redo, so there is none to restore then.
+     */
+    public boolean canRedo() {
+        return !hasUncommittedChanges() && !redoStates.isEmpty();
+    }
+
+    /**
+     * Restores the state before the current one, or the current state if the address book was changed since it was
+     * saved. There must be such a state, as reported by {@link #canUndo()}.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No state to undo");
+        }
+        if (hasUncommittedChanges()) {
+            // the uncommitted changes are undone like a committed change, so they can be redone
+            redoStates.clear();
+            redoStates.push(addressBook.getSnapshot());
+            restore(currentState);
+            return;
+        }
+        redoStates.push(currentState);
+        restore(undoStates.pop());
+    }
+
+    /**
+     * Restores the state last undone.
+     * There must be an undone state, as reported by {@link #canRedo()}.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No state to redo");
+        }
+        undoStates.push(currentState);
+        restore(redoStates.pop());
+    }
+
+    /**
+     * Discards the changes made to the address book since the current state was saved, restoring the current state.
+     */
+    public void rollback() {
+        if (hasUncommittedChanges()) {
+            restore(currentState);
+        }
+    }
+
+    /**
+     * Sets the number of earlier states kept, forgetting the oldest states beyond it.
+     */
+    public void setMaxDepth(int maxDepth) {
+        checkArgument(maxDepth >= 0, MESSAGE_INVALID_MAX_DEPTH);
+        this.maxDepth = maxDepth;
+        trimUndoStates();
+    }
+
+    private boolean hasUncommittedChanges() {
+        return addressBook.getSnapshot() != currentState;
+    }
+
+    private void trimUndoStates() {
+        while (undoStates.size() > maxDepth) {
+            undoStates.removeLast();
+        }
+    }
+
+    /**
+     * Restores {@code state} and makes the snapshot the address book publishes for it the current state, so that
+     * the restore itself is not saved as a change.
+     */
+    private void restore(AddressBookSnapshot state) {
+        addressBook.restore(state);
+        currentState = addressBook.getSnapshot();
+    }
+}
@@ -3,6 +3,9 @@ package edutrack.model.group;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import edutrack.commons.util.Interner;
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a Group in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidGroupName(String)}
@@ -13,8 +16,15 @@ public class Group {
             "Group names should be alphanumeric, may include '-', '_' or '/', "
             + "and must not exceed 50 characters";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_\\-/]+";
+    private static final String OTHER_CHARACTERS = "_-/";
     public static final int MAX_GROUP_LENGTH = 50;
 
+    /**
+     * Interns groups by their exact name, so that a set of groups can be stored as their ids, and groups with the
+     * same name can share one instance.
+     */
+    public static final Interner<Group> INTERNER = new Interner<>(group -> group.groupName);
+
     public final String groupName;
 
     /**
@@ -32,7 +42,7 @@ public class Group {
      * Returns true if a given string is a valid group name.
      */
     public static boolean isValidGroupName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiAlphanumeric(test, OTHER_CHARACTERS);
     }
 
     @Override
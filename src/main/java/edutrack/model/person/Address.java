@@ -2,6 +2,8 @@ package edutrack.model.person;
 
 import static edutrack.commons.util.AppUtil.checkArgument;
 
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -36,7 +38,7 @@ public class Address {
         if (test == null || test.isEmpty()) {
             return true; // null or empty address is allowed
         }
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isPrintableText(test);
     }
 
     @Override
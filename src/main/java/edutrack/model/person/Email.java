@@ -2,6 +2,12 @@ package edutrack.model.person;
 
 import static edutrack.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.function.Predicate;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,9 +38,13 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)+" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Predicate<String> VALIDATOR = ValidationUtil.fullMatcher(VALIDATION_REGEX);
 
     public final String value;
 
+    // computed when the email is first sorted by
+    private volatile CollationKey collationKey;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -52,7 +62,19 @@ public class Email {
         if (test == null || test.isEmpty()) {
             return true; // null or empty email is allowed
         }
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATOR.test(test);
+    }
+
+    /**
+     * Returns the key ordering this email by {@link StringUtil#getCollationKey(String)}.
+     */
+    public CollationKey getCollationKey() {
+        CollationKey key = collationKey;
+        if (key == null) {
+            key = StringUtil.getCollationKey(value);
+            collationKey = key;
+        }
+        return key;
     }
 
     @Override
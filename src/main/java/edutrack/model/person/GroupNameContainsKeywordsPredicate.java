@@ -1,16 +1,22 @@
 package edutrack.model.person;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
-import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.KeywordMatcher;
 import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.group.Group;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that the name of any of a {@code Person}'s groups matches any of the keywords given.
+ * Persons share a few groups, so the result for each group is computed once and remembered.
  */
 public class GroupNameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
+    private final Map<Group, Boolean> matchesByGroup = new HashMap<>();
 
     /**
      * Constructs a {@code NameContainsKeywordsPredicate} with the specified keywords and matching mode.
@@ -19,13 +25,14 @@ public class GroupNameContainsKeywordsPredicate implements Predicate<Person> {
      */
     public GroupNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         return person.getGroups().stream()
-                .anyMatch(group -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(group.groupName, keyword)));
+                .anyMatch(group -> matchesByGroup.computeIfAbsent(group,
+                        unused -> matcher.matchesAnyWordOf(group.groupName)));
     }
 
     @Override
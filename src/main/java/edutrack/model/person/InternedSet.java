@@ -0,0 +1,132 @@
+package edutrack.model.person;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import edutrack.commons.util.Interner;
+
+/**
+ * An unmodifiable set view of a sorted array of ids assigned by an {@link Interner}.
+ *
+ * The view costs nothing beyond the array, which is shared rather than copied, so it can be created whenever the set
+ * is asked for. Two views of the same interner are compared by their ids, and other sets element by element.
+ */
+final class InternedSet<T> extends AbstractSet<T> {
+
+    static final int[] NO_IDS = new int[0];
+
+    private final Interner<T> interner;
+    private final int[] ids;
+
+    /**
+     * Creates a view of {@code ids}, which must be sorted, distinct and not modified afterwards.
+     */
+    InternedSet(Interner<T> interner, int[] ids) {
+        this.interner = interner;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the sorted ids of {@code elements} in {@code interner}, reusing the ids of a view of the same interner.
+     */
+    static <T> int[] toIds(Interner<T> interner, Collection<T> elements) {
+        if (elements instanceof InternedSet && ((InternedSet<?>) elements).interner == interner) {
+            return ((InternedSet<?>) elements).ids;
+        }
+        if (elements.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[elements.size()];
+        int count = 0;
+        for (T element : elements) {
+            ids[count++] = interner.idOf(element);
+        }
+        Arrays.sort(ids);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        return distinctCount == count ? ids : Arrays.copyOf(ids, distinctCount);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < ids.length;
+            }
+
+            @Override
+            public T next() {
+                if (position == ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return interner.get(ids[position++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (int id : ids) {
+            if (interner.get(id).equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof InternedSet && ((InternedSet<?>) other).interner == interner
+                && Arrays.equals(ids, ((InternedSet<?>) other).ids)) {
+            return true;
+        }
+        // equal elements may still have different ids, e.g. tags differing only in case
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -3,6 +3,11 @@ package edutrack.model.person;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.text.CollationKey;
+import java.util.List;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,10 +25,16 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{M}\\p{N}][\\p{L}\\p{M}\\p{N} '\\-./]*";
+    private static final String OTHER_CHARACTERS = " '-./";
     public static final int MAX_NAME_LENGTH = 100;
 
     public final String fullName;
 
+    // computed when the name is first searched, as most names are never searched
+    private volatile List<String> foldedWords;
+    // computed when the name is first sorted by
+    private volatile CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,7 +50,31 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isUnicodeAlphanumeric(test, OTHER_CHARACTERS);
+    }
+
+    /**
+     * Returns the words of this name, case-folded by {@link StringUtil#foldWords(String)} for keyword matching.
+     */
+    public List<String> getFoldedWords() {
+        List<String> words = foldedWords;
+        if (words == null) {
+            words = StringUtil.foldWords(fullName);
+            foldedWords = words;
+        }
+        return words;
+    }
+
+    /**
+     * Returns the key ordering this name by {@link StringUtil#getCollationKey(String)}.
+     */
+    public CollationKey getCollationKey() {
+        CollationKey key = collationKey;
+        if (key == null) {
+            key = StringUtil.getCollationKey(fullName);
+            collationKey = key;
+        }
+        return key;
     }
 
 
@@ -65,7 +100,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // must agree with the case-insensitive equals
+        return fullName.toLowerCase().hashCode();
     }
 
 }
@@ -3,7 +3,7 @@ package edutrack.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.KeywordMatcher;
 import edutrack.commons.util.ToStringBuilder;
 
 /**
@@ -11,6 +11,7 @@ import edutrack.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     /**
      * Constructs a {@code NameContainsKeywordsPredicate} with the specified keywords and matching mode.
@@ -19,12 +20,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return matcher.matchesAny(person.getName().getFoldedWords());
     }
 
     @Override
@@ -2,6 +2,8 @@ package edutrack.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a tutor's note attached to a student.
  * Immutable; empty string is allowed to represent absence of a note.
@@ -41,7 +43,7 @@ public class Note {
         if (test == null || test.isEmpty()) {
             return true;
         }
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isPrintableText(test);
     }
 
     @Override
@@ -2,8 +2,6 @@ package edutrack.model.person;
 
 import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -14,6 +12,10 @@ import edutrack.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Tags and groups are interned by {@link Tag#INTERNER} and {@link Group#INTERNER}, and a person only stores the
+ * sorted ids of its tags and groups, which {@link #getTags()} and {@link #getGroups()} expose as sets. Persons with
+ * the same tags or groups, e.g. an edited person and the original, share the arrays of ids.
  */
 public class Person {
 
@@ -24,10 +26,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Group> groups = new HashSet<>();
+    private final int[] tagIds;
+    private final int[] groupIds;
     private final Note note;
 
+    // cached as persons are immutable and hashed by the indexes of the address book; 0 until first computed
+    private int hash;
+
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Set<Group> groups) {
         this(name, phone, email, address, tags, groups, new Note(""));
     }
@@ -41,8 +46,8 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.groups.addAll(groups);
+        this.tagIds = InternedSet.toIds(Tag.INTERNER, tags);
+        this.groupIds = InternedSet.toIds(Group.INTERNER, groups);
         this.note = note;
     }
 
@@ -67,7 +72,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return new InternedSet<>(Tag.INTERNER, tagIds);
     }
 
     /**
@@ -75,7 +80,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Group> getGroups() {
-        return Collections.unmodifiableSet(groups);
+        return new InternedSet<>(Group.INTERNER, groupIds);
     }
 
     public Note getNote() {
@@ -115,15 +120,20 @@ public class Person {
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
-                && groups.equals(otherPerson.groups)
+                && getTags().equals(otherPerson.getTags())
+                && getGroups().equals(otherPerson.getGroups())
                 && note.equals(otherPerson.note);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, groups, note);
+        int result = hash;
+        if (result == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            result = Objects.hash(name, phone, email, address, getTags(), getGroups(), note);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -133,8 +143,8 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("tags", tags)
-                .add("groups", groups)
+                .add("tags", getTags())
+                .add("groups", getGroups())
                 .add("note", note)
                 .toString();
     }
@@ -27,7 +27,7 @@ public class PersonHasTagPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
-        return person.getTags().stream().anyMatch(targetTag::equals);
+        return person.getTags().contains(targetTag);
     }
 
     @Override
@@ -2,6 +2,8 @@ package edutrack.model.person;
 
 import static edutrack.commons.util.AppUtil.checkArgument;
 
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -33,8 +35,21 @@ public class Phone {
         if (test == null || test.isEmpty()) {
             return true; // Allow null/empty for optional field
         }
-        int digitCount = (int) test.chars().filter(Character::isDigit).count();
-        return test.matches(VALIDATION_REGEX) && digitCount >= 3;
+        // scans for VALIDATION_REGEX and counts the digits in one pass
+        int start = test.charAt(0) == '+' ? 1 : 0;
+        if (test.length() - start < 2) {
+            return false;
+        }
+        int digitCount = 0;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (ValidationUtil.isAsciiDigit(c)) {
+                digitCount++;
+            } else if (c != '-' && !ValidationUtil.isAsciiWhitespace(c)) {
+                return false;
+            }
+        }
+        return digitCount >= 3;
     }
 
     @Override
@@ -0,0 +1,176 @@
+package edutrack.model.person;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import edutrack.model.tag.Tag;
+
+/**
+ * An order of persons by one or more keys, each ascending or descending, with ties broken by the later keys and
+ * finally by name.
+ *
+ * Text is ordered by the collation keys the fields keep, so comparing two persons does not collate their text again.
+ */
+public class SortOrder implements Comparator<Person> {
+
+    public static final String MESSAGE_DUPLICATE_KEY = "Each sort key may only be given once";
+
+    /** The order of persons by name, ascending. */
+    public static final SortOrder BY_NAME = new SortOrder(List.of(new Criterion(Key.NAME, false)));
+
+    /**
+     * A field of a person that persons can be ordered by.
+     */
+    public enum Key {
+        NAME("name", Comparator.comparing(person -> person.getName().getCollationKey())),
+        EMAIL("email", Comparator.comparing(person -> person.getEmail().getCollationKey())),
+        GROUPS("groups", Comparator.comparingInt(person -> person.getGroups().size())),
+        TAG("tag", Comparator.comparing(Key::getFirstTagKey, Comparator.nullsLast(Comparator.naturalOrder()))),
+        NOTE("note", Comparator.comparing(person -> !person.getNote().value.isEmpty()));
+
+        public final String keyword;
+        private final Comparator<Person> comparator;
+
+        Key(String keyword, Comparator<Person> comparator) {
+            this.keyword = keyword;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Returns the key named {@code keyword}, ignoring case, or null if there is none.
+         */
+        public static Key fromKeyword(String keyword) {
+            requireNonNull(keyword);
+            for (Key key : values()) {
+                if (key.keyword.equalsIgnoreCase(keyword)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the collation key of the first tag of {@code person} in collation order, or null if it has none,
+         * so that persons without tags come after those with tags.
+         */
+        private static CollationKey getFirstTagKey(Person person) {
+            CollationKey first = null;
+            for (Tag tag : person.getTags()) {
+                CollationKey key = tag.getCollationKey();
+                if (first == null || key.compareTo(first) < 0) {
+                    first = key;
+                }
+            }
+            return first;
+        }
+    }
+
+    /**
+     * A key to order persons by, and its direction.
+     */
+    public static class Criterion {
+        public final Key key;
+        public final boolean isDescending;
+
+        /**
+         * Creates a criterion ordering persons by {@code key}, descending if {@code isDescending}.
+         */
+        public Criterion(Key key, boolean isDescending) {
+            this.key = requireNonNull(key);
+            this.isDescending = isDescending;
+        }
+
+        private Comparator<Person> toComparator() {
+            return isDescending ? key.comparator.reversed() : key.comparator;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Criterion)) {
+                return false;
+            }
+
+            Criterion otherCriterion = (Criterion) other;
+            return key == otherCriterion.key && isDescending == otherCriterion.isDescending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, isDescending);
+        }
+
+        @Override
+        public String toString() {
+            return key.keyword + (isDescending ? " desc" : " asc");
+        }
+    }
+
+    private final List<Criterion> criteria;
+    private final Comparator<Person> comparator;
+
+    /**
+     * Creates an order by {@code criteria}, the first deciding first, which must be non-empty with distinct keys.
+     */
+    public SortOrder(List<Criterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "A sort order needs at least one key");
+        checkArgument(criteria.stream().map(criterion -> criterion.key).distinct().count() == criteria.size(),
+                MESSAGE_DUPLICATE_KEY);
+        this.criteria = List.copyOf(criteria);
+
+        List<Comparator<Person>> comparators = new ArrayList<>();
+        criteria.forEach(criterion -> comparators.add(criterion.toComparator()));
+        if (criteria.stream().noneMatch(criterion -> criterion.key == Key.NAME)) {
+            comparators.add(Key.NAME.comparator);
+        }
+        Comparator<Person> combined = comparators.get(0);
+        for (int i = 1; i < comparators.size(); i++) {
+            combined = combined.thenComparing(comparators.get(i));
+        }
+        comparator = combined;
+    }
+
+    public List<Criterion> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return comparator.compare(first, second);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SortOrder)) {
+            return false;
+        }
+
+        SortOrder otherOrder = (SortOrder) other;
+        return criteria.equals(otherOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return criteria.stream().map(Criterion::toString).collect(Collectors.joining(", "));
+    }
+}
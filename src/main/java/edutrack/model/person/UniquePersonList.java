@@ -3,9 +3,15 @@ package edutrack.model.person;
 import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import edutrack.model.person.exceptions.DuplicatePersonException;
 import edutrack.model.person.exceptions.PersonNotFoundException;
@@ -19,22 +25,33 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups go through a hash index keyed by {@code Name}, which is kept in sync with the backing list, so
+ * that checking for duplicates does not require a scan of the whole list. The positions of the stored persons are
+ * indexed as well, so that replacing a person does not scan the list either. That index is dropped by changes that
+ * move persons, such as removing a person before the end of the list, and rebuilt when it is next needed.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** Replacing more than this fraction of the persons at once replaces the whole list instead. */
+    private static final int SET_ALL_THRESHOLD_DIVISOR = 2;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Name, Person> personsByName = new HashMap<>();
+    /** Position of each stored person in the backing list, compared by reference, or null until it is rebuilt. */
+    private Map<Person, Integer> positions;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -47,6 +64,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        if (positions != null) {
+            positions.put(toAdd, internalList.size() - 1);
+        }
     }
 
     /**
@@ -57,8 +78,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = findStored(target);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
 
@@ -66,7 +87,67 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = indexOfStored(existing);
         internalList.set(index, editedPerson);
+        personsByName.remove(existing.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        positions.remove(existing);
+        positions.put(editedPerson, index);
+    }
+
+    /**
+     * Replaces each key of {@code replacements} in the list with its value, in place, so that only the replaced
+     * persons change. If most of the list is replaced, the whole list is replaced instead as a single change.
+     * Every key must exist in the list, and the edited persons must not have the same identity as each other or as
+     * another existing person that is not replaced. If any replacement is invalid, the list is not changed.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        Map<Person, Person> replacementsByStored = new IdentityHashMap<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            Person existing = findStored(replacement.getKey());
+            if (existing == null) {
+                throw new PersonNotFoundException();
+            }
+            replacementsByStored.put(existing, replacement.getValue());
+        }
+        Map<Name, Person> addedByName = indexByName(new ArrayList<>(replacements.values()));
+        if (addedByName == null) {
+            throw new DuplicatePersonException();
+        }
+        for (Person person : addedByName.values()) {
+            Person existing = personsByName.get(person.getName());
+            if (existing != null && !replacementsByStored.containsKey(existing)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        replacementsByStored.keySet().forEach(person -> personsByName.remove(person.getName()));
+        personsByName.putAll(addedByName);
+        if (replacementsByStored.size() > internalList.size() / SET_ALL_THRESHOLD_DIVISOR) {
+            List<Person> replacedList = new ArrayList<>(internalList.size());
+            for (Person person : internalList) {
+                replacedList.add(replacementsByStored.getOrDefault(person, person));
+            }
+            internalList.setAll(replacedList);
+            positions = null;
+            return;
+        }
+
+        // all positions are looked up first, as an edited person may be another replaced person
+        Map<Person, Integer> replacedIndices = new IdentityHashMap<>();
+        replacementsByStored.keySet().forEach(person -> replacedIndices.put(person, indexOfStored(person)));
+        replacedIndices.keySet().forEach(positions::remove);
+        replacedIndices.forEach((person, index) -> {
+            Person editedPerson = replacementsByStored.get(person);
+            internalList.set(index, editedPerson);
+            positions.put(editedPerson, index);
+        });
     }
 
     /**
@@ -75,14 +156,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = findStored(toRemove);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
+        int index = indexOfStored(existing);
+        internalList.remove(index);
+        personsByName.remove(existing.getName());
+        if (index == internalList.size()) {
+            positions.remove(existing);
+        } else {
+            // the persons after it moved
+            positions = null;
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName = new HashMap<>(replacement.personsByName);
+        positions = null;
     }
 
     /**
@@ -91,19 +184,68 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = indexByName(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsByName = replacementIndex;
+        positions = null;
     }
 
     /**
-     * Sorts the list of persons by name alphabetically.
+     * Replaces the contents of this list with {@code persons}, which must not contain duplicate persons.
+     * Only the persons between the longest common prefix and suffix of both lists, compared by reference, are
+     * replaced, so restoring an earlier version of this list after a few changes only changes those persons.
      */
-    public void sortByName() {
-        FXCollections.sort(internalList,
-                Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+    public void restorePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Person[] target = persons.toArray(new Person[0]);
+        int size = internalList.size();
+        int prefix = 0;
+        int maxCommon = Math.min(size, target.length);
+        while (prefix < maxCommon && internalList.get(prefix) == target[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && internalList.get(size - suffix - 1) == target[target.length - suffix - 1]) {
+            suffix++;
+        }
+
+        List<Person> removed = internalList.subList(prefix, size - suffix);
+        List<Person> added = Arrays.asList(target).subList(prefix, target.length - suffix);
+        Set<Person> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedSet.addAll(removed);
+        Map<Name, Person> addedByName = indexByName(added);
+        if (addedByName == null) {
+            throw new DuplicatePersonException();
+        }
+        for (Person person : added) {
+            Person existing = personsByName.get(person.getName());
+            if (existing != null && !removedSet.contains(existing)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        removed.forEach(person -> personsByName.remove(person.getName()));
+        personsByName.putAll(addedByName);
+        if (positions != null && removed.size() == added.size()) {
+            removed.forEach(positions::remove);
+            for (int i = 0; i < added.size(); i++) {
+                positions.put(added.get(i), prefix + i);
+            }
+        } else {
+            // the persons after the changed ones moved
+            positions = null;
+        }
+        if (!removed.isEmpty()) {
+            removed.clear();
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(prefix, added);
+        }
     }
 
     /**
@@ -144,16 +286,41 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the stored person that is equal to {@code person}, or null if there is none.
+     */
+    private Person findStored(Person person) {
+        Person stored = personsByName.get(person.getName());
+        return person.equals(stored) ? stored : null;
+    }
+
+    /**
+     * Returns the position of {@code stored} in the backing list, rebuilding the position index if it was dropped.
+     * Compares by reference, as {@code stored} must be the instance held by this list.
+     */
+    private int indexOfStored(Person stored) {
+        if (positions == null) {
+            positions = new IdentityHashMap<>();
+            for (int i = 0; i < internalList.size(); i++) {
+                positions.put(internalList.get(i), i);
+            }
+        }
+        Integer index = positions.get(stored);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns a name index of {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
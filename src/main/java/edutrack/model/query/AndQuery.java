@@ -0,0 +1,91 @@
+package edutrack.model.query;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import edutrack.model.person.Person;
+
+/**
+ * Matches the persons that match all of some queries.
+ *
+ * The persons matching the most selective operand are found first. Each further operand, from the most to the least
+ * selective, is then either tested against each of them, or evaluated and intersected with them, whichever is
+ * estimated to be cheaper, so that an unselective operand such as a negation is not evaluated in full.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that match all of {@code operands}, of which there must be at least two.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "A conjunction needs at least two operands");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        return operands.stream().mapToInt(evaluator::estimate).min().getAsInt();
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        List<Query> plan = new ArrayList<>(operands);
+        plan.sort(Comparator.comparingInt(evaluator::estimate));
+
+        Set<Person> matches = plan.get(0).evaluate(evaluator);
+        for (int i = 1; i < plan.size() && !matches.isEmpty(); i++) {
+            Query operand = plan.get(i);
+            // evaluating the operand visits about as many persons as it matches, then intersecting looks up each match
+            if ((long) matches.size() * operand.testCost() < evaluator.estimate(operand) + matches.size()) {
+                matches.removeIf(person -> !operand.test(person));
+            } else {
+                matches.retainAll(operand.evaluate(evaluator));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    int testCost() {
+        return operands.stream().mapToInt(Query::testCost).sum();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return operands.equals(otherAndQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
@@ -0,0 +1,118 @@
+package edutrack.model.query;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.SearchIndex;
+import edutrack.model.person.Person;
+
+/**
+ * Matches the persons with a word in one of their details equal to a keyword, ignoring case.
+ * A keyword ending with {@value SearchIndex#PREFIX_WILDCARD} matches the words that start with the rest of it.
+ */
+public class FieldQuery extends Query {
+
+    /**
+     * The details of a person that can be queried.
+     */
+    public enum Field {
+        NAME(person -> person.getName().fullName),
+        PHONE(person -> person.getPhone().value),
+        EMAIL(person -> person.getEmail().value),
+        ADDRESS(person -> person.getAddress().value),
+        NOTE(person -> person.getNote().value);
+
+        private final Function<Person, String> getter;
+
+        Field(Function<Person, String> getter) {
+            this.getter = getter;
+        }
+    }
+
+    /** Testing a person splits and folds the words of a detail, which costs about as much as this many lookups. */
+    private static final int TEST_COST = 10;
+
+    private final Field field;
+    private final String keyword;
+    private final String foldedWord;
+    private final boolean isPrefix;
+
+    /**
+     * Creates a query matching the persons with a word in {@code field} equal to {@code keyword}.
+     * {@code keyword} must be a single non-empty word, optionally followed by {@value SearchIndex#PREFIX_WILDCARD}.
+     */
+    public FieldQuery(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        this.field = field;
+        this.keyword = keyword;
+        isPrefix = keyword.endsWith(SearchIndex.PREFIX_WILDCARD);
+        List<String> words = StringUtil.foldWords(isPrefix ? keyword.substring(0, keyword.length() - 1) : keyword);
+        checkArgument(words.size() == 1, "Keyword should be a single non-empty word");
+        foldedWord = words.get(0);
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        return getCandidates(evaluator).size();
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        Set<Person> matches = new HashSet<>(getCandidates(evaluator));
+        matches.removeIf(person -> !test(person));
+        return matches;
+    }
+
+    /**
+     * Returns the persons with a word in any of their details that starts with the keyword, which
+     * includes every person matching this query.
+     */
+    private Set<Person> getCandidates(QueryEvaluator evaluator) {
+        return evaluator.search(foldedWord + SearchIndex.PREFIX_WILDCARD);
+    }
+
+    @Override
+    int testCost() {
+        return TEST_COST;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return StringUtil.foldWords(field.getter.apply(person)).stream()
+                .anyMatch(word -> isPrefix ? word.startsWith(foldedWord) : word.equals(foldedWord));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery)) {
+            return false;
+        }
+
+        FieldQuery otherFieldQuery = (FieldQuery) other;
+        return field.equals(otherFieldQuery.field)
+                && foldedWord.equals(otherFieldQuery.foldedWord)
+                && isPrefix == otherFieldQuery.isPrefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + foldedWord.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field.name().toLowerCase() + ":" + keyword;
+    }
+}
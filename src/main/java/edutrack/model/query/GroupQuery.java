@@ -0,0 +1,70 @@
+package edutrack.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+
+/**
+ * Matches the persons that belong to a group.
+ */
+public class GroupQuery extends Query {
+
+    private final Group group;
+
+    /**
+     * Creates a query matching the persons that belong to {@code group}.
+     */
+    public GroupQuery(Group group) {
+        requireNonNull(group);
+        this.group = group;
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        return evaluator.getPersonsInGroup(group).size();
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        return new HashSet<>(evaluator.getPersonsInGroup(group));
+    }
+
+    @Override
+    int testCost() {
+        return 1;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getGroups().contains(group);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupQuery)) {
+            return false;
+        }
+
+        GroupQuery otherGroupQuery = (GroupQuery) other;
+        return group.equals(otherGroupQuery.group);
+    }
+
+    @Override
+    public int hashCode() {
+        return group.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "group:" + group.groupName;
+    }
+}
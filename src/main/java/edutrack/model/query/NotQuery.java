@@ -0,0 +1,71 @@
+package edutrack.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import edutrack.model.person.Person;
+
+/**
+ * Matches the persons that do not match another query.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    /**
+     * Creates a query matching the persons that do not match {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        return Math.max(0, evaluator.getPersons().size() - evaluator.estimate(operand));
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        Set<Person> matches = new HashSet<>(evaluator.getPersons());
+        matches.removeAll(operand.evaluate(evaluator));
+        return matches;
+    }
+
+    @Override
+    int testCost() {
+        return operand.testCost();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,77 @@
+package edutrack.model.query;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import edutrack.model.person.Person;
+
+/**
+ * Matches the persons that match any of some queries.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the persons that match any of {@code operands}, of which there must be at least two.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "A disjunction needs at least two operands");
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        long sum = operands.stream().mapToLong(evaluator::estimate).sum();
+        return (int) Math.min(sum, evaluator.getPersons().size());
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        Set<Person> matches = operands.get(0).evaluate(evaluator);
+        for (int i = 1; i < operands.size(); i++) {
+            matches.addAll(operands.get(i).evaluate(evaluator));
+        }
+        return matches;
+    }
+
+    @Override
+    int testCost() {
+        return operands.stream().mapToInt(Query::testCost).sum();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return operands.equals(otherOrQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -0,0 +1,84 @@
+package edutrack.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.SearchIndex;
+import edutrack.model.person.Person;
+
+/**
+ * A boolean query over the persons of an address book, combining conditions on their tags, groups and details.
+ *
+ * Besides testing a single person, a query can be evaluated against a whole address book. Conditions on tags and
+ * groups then start from the persons in their index, conditions on details from the candidates found in the full-text
+ * search index, and each conjunction starts from its most selective operand and only intersects the others with it,
+ * instead of testing every condition against every person.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    /**
+     * Returns an estimate of the number of persons matching this query, which should be cheap to compute.
+     */
+    abstract int estimate(QueryEvaluator evaluator);
+
+    /**
+     * Returns a new modifiable set of the persons matching this query.
+     */
+    abstract Set<Person> evaluate(QueryEvaluator evaluator);
+
+    /**
+     * Returns the relative cost of testing a single person against this query, where looking up a person in a set
+     * costs 1.
+     */
+    abstract int testCost();
+
+    /**
+     * Returns the persons of {@code addressBook} that match this query.
+     * The query is evaluated when the matches are first used, and again whenever the persons of the address book have
+     * changed since, so they also evaluate persons that are added or edited after they were created.
+     */
+    public Matches match(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new Matches(this, addressBook);
+    }
+
+    /**
+     * The persons of an address book that match a query.
+     */
+    public static class Matches implements Predicate<Person> {
+        private final Query query;
+        private final ReadOnlyAddressBook addressBook;
+        private final SearchIndex searchIndex;
+        private long evaluatedModificationCount = -1;
+        private Set<Person> matches;
+
+        private Matches(Query query, ReadOnlyAddressBook addressBook) {
+            this.query = query;
+            this.addressBook = addressBook;
+            this.searchIndex = addressBook.getSearchIndex();
+        }
+
+        private Set<Person> getMatches() {
+            if (evaluatedModificationCount != searchIndex.getModificationCount()) {
+                matches = query.evaluate(new QueryEvaluator(addressBook, searchIndex));
+                evaluatedModificationCount = searchIndex.getModificationCount();
+            }
+            return matches;
+        }
+
+        /**
+         * Returns true if no person matches.
+         */
+        public boolean isEmpty() {
+            return getMatches().isEmpty();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return getMatches().contains(person);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package edutrack.model.query;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.SearchIndex;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Evaluates queries against an address book, remembering the estimates and index lookups of the parts of a query so
+ * that planning a query does not repeat them.
+ */
+class QueryEvaluator {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final SearchIndex searchIndex;
+    private final Map<Query, Integer> estimates = new IdentityHashMap<>();
+    private final Map<String, Set<Person>> searchResults = new HashMap<>();
+
+    QueryEvaluator(ReadOnlyAddressBook addressBook, SearchIndex searchIndex) {
+        this.addressBook = addressBook;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Returns the estimate of {@code query}, computing it only once.
+     */
+    int estimate(Query query) {
+        Integer estimate = estimates.get(query);
+        if (estimate == null) {
+            estimate = query.estimate(this);
+            estimates.put(query, estimate);
+        }
+        return estimate;
+    }
+
+    List<Person> getPersons() {
+        return addressBook.getPersonList();
+    }
+
+    Set<Person> getPersonsWithTag(Tag tag) {
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    Set<Person> getPersonsInGroup(Group group) {
+        return addressBook.getPersonsInGroup(group);
+    }
+
+    /**
+     * Returns the persons with a word in any of their details matching the full-text search {@code term}.
+     */
+    Set<Person> search(String term) {
+        return searchResults.computeIfAbsent(term, unused -> searchIndex.search(List.of(term)));
+    }
+}
@@ -0,0 +1,70 @@
+package edutrack.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Matches the persons that have a tag.
+ */
+public class TagQuery extends Query {
+
+    private final Tag tag;
+
+    /**
+     * Creates a query matching the persons that have {@code tag}.
+     */
+    public TagQuery(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    int estimate(QueryEvaluator evaluator) {
+        return evaluator.getPersonsWithTag(tag).size();
+    }
+
+    @Override
+    Set<Person> evaluate(QueryEvaluator evaluator) {
+        return new HashSet<>(evaluator.getPersonsWithTag(tag));
+    }
+
+    @Override
+    int testCost() {
+        return 1;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getTags().contains(tag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        TagQuery otherTagQuery = (TagQuery) other;
+        return tag.equals(otherTagQuery.tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "tag:" + tag.tagName;
+    }
+}
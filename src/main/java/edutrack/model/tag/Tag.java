@@ -3,6 +3,12 @@ package edutrack.model.tag;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.text.CollationKey;
+
+import edutrack.commons.util.Interner;
+import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,10 +18,20 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tag names should be alphanumeric, may include '-', '_' or '/', "
             + "and must not exceed 50 characters";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_\\-/]+";
+    private static final String OTHER_CHARACTERS = "_-/";
     public static final int MAX_TAG_LENGTH = 50;
 
+    /**
+     * Interns tags by their exact name, so that a set of tags can be stored as their ids, and tags with the same name
+     * can share one instance.
+     */
+    public static final Interner<Tag> INTERNER = new Interner<>(tag -> tag.tagName);
+
     public final String tagName;
 
+    // computed when the tag is first sorted by
+    private volatile CollationKey collationKey;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -31,7 +47,19 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiAlphanumeric(test, OTHER_CHARACTERS);
+    }
+
+    /**
+     * Returns the key ordering this tag by {@link StringUtil#getCollationKey(String)}.
+     */
+    public CollationKey getCollationKey() {
+        CollationKey key = collationKey;
+        if (key == null) {
+            key = StringUtil.getCollationKey(tagName);
+            collationKey = key;
+        }
+        return key;
     }
 
     @Override
@@ -0,0 +1,181 @@
+package edutrack.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Name;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Assembles an {@code AddressBook} from stored data in a single pass.
+ * Groups and tags are interned through hash maps keyed by their case-folded names, so that every person refers to
+ * the central instance held by the address book, which is the instance interned by {@link Group#INTERNER} or
+ * {@link Tag#INTERNER} for its name. Groups and tags referenced by persons but missing from the central
+ * lists are auto-created for backward compatibility.
+ */
+class AddressBookAssembler {
+
+    public static final String MESSAGE_DUPLICATE_GROUP = "This group already exists.";
+    public static final String MESSAGE_DUPLICATE_TAG = "This tag already exists.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookAssembler.class);
+
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private final Set<String> declaredGroups = new LinkedHashSet<>();
+    private final Map<String, Tag> tags = new LinkedHashMap<>();
+    private final Set<String> declaredTags = new LinkedHashSet<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> personNames = new HashSet<>();
+
+    /**
+     * Adds a group from the central group list.
+     * If a person has already referenced the group, the instance interned for that person stays the central one.
+     *
+     * @throws IllegalValueException if the group name is invalid or the group was already declared.
+     */
+    public void declareGroup(String groupName) throws IllegalValueException {
+        String key = foldCase(groupName);
+        if (!declaredGroups.add(key)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
+        }
+        if (!groups.containsKey(key)) {
+            groups.put(key, toGroup(groupName));
+        }
+    }
+
+    /**
+     * Adds a tag from the central tag list.
+     * If a person has already referenced the tag, the instance interned for that person stays the central one.
+     *
+     * @throws IllegalValueException if the tag name is invalid or the tag was already declared.
+     */
+    public void declareTag(String tagName) throws IllegalValueException {
+        String key = foldCase(tagName);
+        if (!declaredTags.add(key)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
+        }
+        if (!tags.containsKey(key)) {
+            tags.put(key, toTag(tagName));
+        }
+    }
+
+    /**
+     * Returns the central group with the given name, creating it if no such group has been seen yet.
+     *
+     * @throws IllegalValueException if the group name is invalid.
+     */
+    public Group internGroup(String groupName) throws IllegalValueException {
+        String key = foldCase(groupName);
+        Group group = groups.get(key);
+        if (group == null) {
+            group = toGroup(groupName);
+            groups.put(key, group);
+        }
+        return group;
+    }
+
+    /**
+     * Returns the central tag with the given name, creating it if no such tag has been seen yet.
+     *
+     * @throws IllegalValueException if the tag name is invalid.
+     */
+    public Tag internTag(String tagName) throws IllegalValueException {
+        String key = foldCase(tagName);
+        Tag tag = tags.get(key);
+        if (tag == null) {
+            tag = toTag(tagName);
+            tags.put(key, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Adds a person whose groups and tags were obtained from {@link #internGroup} and {@link #internTag}.
+     *
+     * @throws IllegalValueException if a person with the same identity has already been added.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        if (!personNames.add(person.getName())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Adds a person that is already in the model's form, e.g. one of an address book loaded earlier.
+     * Its groups and tags are interned like those of a stored person, so that missing ones are auto-created.
+     *
+     * @throws IllegalValueException if a person with the same identity has already been added.
+     */
+    public void addModelPerson(Person person) throws IllegalValueException {
+        for (Group group : person.getGroups()) {
+            internGroup(group.groupName);
+        }
+        for (Tag tag : person.getTags()) {
+            internTag(tag.tagName);
+        }
+        addPerson(person);
+    }
+
+    /**
+     * Returns the assembled address book.
+     * Declared groups and tags keep their stored order, followed by any auto-created ones in order of first use.
+     */
+    public AddressBook build() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setGroups(centralValues(groups, declaredGroups, "Group", group -> group.groupName));
+        addressBook.setTags(centralValues(tags, declaredTags, "Tag", tag -> tag.tagName));
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static <T> List<T> centralValues(Map<String, T> interned, Set<String> declared, String kind,
+            Function<T, String> nameOf) {
+        List<T> values = new ArrayList<>(interned.size());
+        for (String key : declared) {
+            values.add(interned.get(key));
+        }
+        for (Map.Entry<String, T> entry : interned.entrySet()) {
+            if (!declared.contains(entry.getKey())) {
+                logger.warning(kind + " '" + nameOf.apply(entry.getValue())
+                        + "' not found in central list. Auto-creating for backward compatibility.");
+                values.add(entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    private static Group toGroup(String groupName) throws IllegalValueException {
+        if (groupName == null || !Group.isValidGroupName(groupName)) {
+            throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
+        }
+        return Group.INTERNER.intern(new Group(groupName));
+    }
+
+    private static Tag toTag(String tagName) throws IllegalValueException {
+        if (tagName == null || !Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return Tag.INTERNER.intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the key under which {@code name} is interned.
+     * Group and tag names are ASCII-only, so lower-casing agrees with their case-insensitive equality.
+     */
+    private static String foldCase(String name) {
+        return name == null ? null : name.toLowerCase();
+    }
+}
@@ -0,0 +1,144 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.AddressBookFormat;
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.util.FileUtil;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for an {@code AddressBookFormat}, and converts data files between formats.
+ */
+public class AddressBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    private AddressBookFormatConverter() {} // prevents instantiation
+
+    /**
+     * Returns a storage for data files of the given {@code format} at {@code filePath}.
+     */
+    public static AddressBookStorage createStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JournaledAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, or an empty optional if there is no such file.
+     * Files that do not start with the binary format's magic bytes are assumed to be json.
+     */
+    public static Optional<AddressBookFormat> detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] header = new byte[BinaryAddressBookCodec.MAGIC.length];
+        int read = 0;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int count;
+            while (read < header.length && (count = in.read(header, read, header.length - read)) != -1) {
+                read += count;
+            }
+        }
+        return Optional.of(read == header.length && BinaryAddressBookCodec.hasMagic(header)
+                ? AddressBookFormat.BINARY : AddressBookFormat.JSON);
+    }
+
+    /**
+     * Returns the most recent previous generation of the data file at {@code filePath} that can be loaded, after the
+     * file itself could not be loaded because of {@code failure}. Each generation is read in the format it is in, as
+     * converting the file keeps its previous generations in the format they were written in.
+     *
+     * @throws DataLoadingException {@code failure}, with the failures of the generations suppressed, if no previous
+     *     generation can be loaded.
+     */
+    static ReadOnlyAddressBook readPreviousGeneration(Path filePath, DataLoadingException failure)
+            throws DataLoadingException {
+        for (int generation = 1; generation <= JsonAddressBookStorage.GENERATIONS_KEPT; generation++) {
+            Path backup = FileUtil.getBackupPath(filePath, generation);
+            try {
+                Optional<AddressBookFormat> format = detectFormat(backup);
+                if (!format.isPresent()) {
+                    continue;
+                }
+                ReadOnlyAddressBook addressBook = readWithoutFallback(format.get(), backup);
+                logger.warning("Data file at " + filePath + " could not be loaded."
+                        + " Using previous generation " + backup + " instead.");
+                return addressBook;
+            } catch (DataLoadingException backupException) {
+                failure.addSuppressed(backupException);
+            } catch (IOException backupException) {
+                failure.addSuppressed(new DataLoadingException(backupException));
+            }
+        }
+        throw failure;
+    }
+
+    private static ReadOnlyAddressBook readWithoutFallback(AddressBookFormat format, Path filePath)
+            throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook;
+        switch (format) {
+        case BINARY:
+            addressBook = new BinaryAddressBookStorage(filePath).readAddressBook(filePath, false);
+            break;
+        case JSON:
+        default:
+            // a journal only applies to the current data file, so a previous generation is used as it is
+            addressBook = new JsonAddressBookStorage(filePath).readAddressBook(filePath, false);
+            break;
+        }
+        return addressBook.orElseThrow(() -> new DataLoadingException(new IOException("File not found: "
+                + filePath)));
+    }
+
+    /**
+     * Converts the data file at {@code source} to {@code targetFormat}, writing it to {@code target}.
+     *
+     * @throws DataLoadingException if the source file does not exist or could not be loaded.
+     * @throws IOException if the target file could not be written.
+     */
+    public static void convert(Path source, Path target, AddressBookFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(targetFormat);
+        AddressBookFormat sourceFormat = detectFormat(source)
+                .orElseThrow(() -> new DataLoadingException(new IOException("File not found: " + source)));
+        ReadOnlyAddressBook addressBook = createStorage(sourceFormat, source).readAddressBook(source)
+                .orElseThrow(() -> new DataLoadingException(new IOException("File not found: " + source)));
+        createStorage(targetFormat, target).saveAddressBook(addressBook, target);
+        if (targetFormat == AddressBookFormat.BINARY) {
+            // a journal left next to the file no longer applies to it
+            Files.deleteIfExists(JournaledAddressBookStorage.getJournalPath(target));
+        }
+        logger.info("Converted " + source + " from " + sourceFormat + " to " + targetFormat + " at " + target);
+    }
+
+    /**
+     * Converts the data file at {@code filePath} in place if it exists and is not in {@code format}.
+     *
+     * @throws DataLoadingException if the existing file could not be loaded.
+     * @throws IOException if the converted file could not be written.
+     */
+    public static void convertIfNeeded(Path filePath, AddressBookFormat format)
+            throws DataLoadingException, IOException {
+        Optional<AddressBookFormat> currentFormat = detectFormat(filePath);
+        if (currentFormat.isPresent() && currentFormat.get() != format) {
+            convert(filePath, filePath, format);
+        }
+    }
+}
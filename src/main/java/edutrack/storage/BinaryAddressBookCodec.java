@@ -0,0 +1,264 @@
+package edutrack.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Reads and writes the binary address book format.
+ *
+ * A file consists of the magic bytes {@code EDTB}, a format version, the dictionary of group names, the dictionary
+ * of tag names, the persons, and finally the CRC32 of all preceding bytes. Each dictionary holds the central list
+ * followed by any names only referenced by persons, and persons refer to their groups and tags by dictionary index.
+ * Strings are stored as UTF-8 prefixed by their length in bytes, and all numbers as big-endian ints.
+ */
+class BinaryAddressBookCodec {
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPT = "Binary address book file is corrupt: %s";
+
+    static final byte[] MAGIC = {'E', 'D', 'T', 'B'};
+    static final int VERSION = 1;
+
+    private BinaryAddressBookCodec() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code header} starts with the magic bytes of the binary format.
+     */
+    static boolean hasMagic(byte[] header) {
+        if (header.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.write(MAGIC);
+        data.writeInt(VERSION);
+
+        Dictionary<Group> groups = new Dictionary<>(addressBook.getGroupList(), group -> group.groupName);
+        Dictionary<Tag> tags = new Dictionary<>(addressBook.getTagList(), tag -> tag.tagName);
+        for (Person person : addressBook.getPersonList()) {
+            person.getGroups().forEach(groups::idOf);
+            person.getTags().forEach(tags::idOf);
+        }
+        groups.writeTo(data);
+        tags.writeTo(data);
+
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            writeString(data, person.getNote() == null ? "" : person.getNote().value);
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(tags.idOf(tag));
+            }
+            data.writeInt(person.getGroups().size());
+            for (Group group : person.getGroups()) {
+                data.writeInt(groups.idOf(group));
+            }
+        }
+
+        data.flush();
+        data.writeInt((int) crc.getValue());
+        data.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}, which holds the contents of a file from its
+     * position to its limit, e.g. a memory-mapped file.
+     * The checksum is verified before any data is converted to the model.
+     *
+     * @throws IOException if the data is not a valid binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        ByteBuffer data = buffer.slice();
+        if (data.remaining() < MAGIC.length + Integer.BYTES) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        data.get(magic);
+        if (!hasMagic(magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+
+        int checksumOffset = data.limit() - Integer.BYTES;
+        ByteBuffer checkedBytes = data.duplicate();
+        checkedBytes.position(0).limit(checksumOffset);
+        CRC32 crc = new CRC32();
+        crc.update(checkedBytes);
+        if (data.getInt(checksumOffset) != (int) crc.getValue()) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "checksum mismatch"));
+        }
+
+        data.limit(checksumOffset);
+        try {
+            int version = data.getInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            List<Group> groups = readDictionary(data, assembler::declareGroup, assembler::internGroup);
+            List<Tag> tags = readDictionary(data, assembler::declareTag, assembler::internTag);
+
+            int personCount = readCount(data);
+            for (int i = 0; i < personCount; i++) {
+                String name = readString(data);
+                String phone = readString(data);
+                String email = readString(data);
+                String address = readString(data);
+                String note = readString(data);
+                Set<Tag> personTags = readReferences(data, tags);
+                Set<Group> personGroups = readReferences(data, groups);
+                assembler.addPerson(JsonAdaptedPerson.toModelType(name, phone, email, address, personTags,
+                        personGroups, note));
+            }
+            if (data.hasRemaining()) {
+                throw new IOException(String.format(MESSAGE_CORRUPT, "unexpected data before checksum"));
+            }
+            return assembler.build();
+        } catch (BufferUnderflowException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "file is truncated"), e);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer data) throws IOException {
+        int length = data.getInt();
+        if (length < 0 || length > data.remaining()) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "invalid string length " + length));
+        }
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer data) throws IOException {
+        int count = data.getInt();
+        if (count < 0 || count > data.remaining()) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "invalid count " + count));
+        }
+        return count;
+    }
+
+    /**
+     * Reads a dictionary, declaring its central entries and interning the remaining ones.
+     */
+    private static <T> List<T> readDictionary(ByteBuffer data, NameConsumer declare,
+            NameInterner<T> intern) throws IOException, IllegalValueException {
+        int centralCount = readCount(data);
+        int totalCount = readCount(data);
+        if (centralCount > totalCount) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "invalid dictionary size"));
+        }
+        List<T> entries = new ArrayList<>(totalCount);
+        for (int i = 0; i < totalCount; i++) {
+            String name = readString(data);
+            if (i < centralCount) {
+                declare.accept(name);
+            }
+            entries.add(intern.intern(name));
+        }
+        return entries;
+    }
+
+    private static <T> Set<T> readReferences(ByteBuffer data, List<T> dictionary) throws IOException {
+        int count = readCount(data);
+        Set<T> references = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            int id = data.getInt();
+            if (id < 0 || id >= dictionary.size()) {
+                throw new IOException(String.format(MESSAGE_CORRUPT, "invalid reference " + id));
+            }
+            references.add(dictionary.get(id));
+        }
+        return references;
+    }
+
+    /**
+     * Assigns consecutive ids to group or tag names, starting with the central list.
+     */
+    private static class Dictionary<T> {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final Function<T, String> nameOf;
+        private final int centralCount;
+
+        Dictionary(List<T> centralList, Function<T, String> nameOf) {
+            this.nameOf = nameOf;
+            centralList.forEach(this::idOf);
+            centralCount = names.size();
+        }
+
+        int idOf(T value) {
+            String name = nameOf.apply(value);
+            // names are compared case-insensitively, as in Group and Tag
+            String key = name.toLowerCase();
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = names.size();
+                ids.put(key, id);
+                names.add(name);
+            }
+            return id;
+        }
+
+        void writeTo(DataOutputStream data) throws IOException {
+            data.writeInt(centralCount);
+            data.writeInt(names.size());
+            for (String name : names) {
+                writeString(data, name);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface NameConsumer {
+        void accept(String name) throws IllegalValueException;
+    }
+
+    @FunctionalInterface
+    private interface NameInterner<T> {
+        T intern(String name) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,133 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * See {@link BinaryAddressBookCodec} for the format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the data at {@code filePath} cannot be loaded, the most recent previous generation that can be loaded is
+     * used instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, true);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but only falls back to a previous generation if
+     * {@code isFallbackAllowed} is true.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, boolean isFallbackAllowed)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            if (!isFallbackAllowed) {
+                throw e;
+            }
+            return Optional.of(AddressBookFormatConverter.readPreviousGeneration(filePath, e));
+        }
+    }
+
+    private ReadOnlyAddressBook readFile(Path file) throws DataLoadingException {
+        try {
+            return readDirect(file);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + file + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the file into a direct buffer, so that its contents are not copied onto the heap.
+     * The file is not memory-mapped, as a mapping keeps the file locked on Windows until it is garbage collected,
+     * which would make the next save fail to replace it.
+     */
+    private static ReadOnlyAddressBook readDirect(Path file) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large: " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the buffer is full
+            }
+            buffer.flip();
+            return BinaryAddressBookCodec.read(buffer);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The previous data is kept as a numbered backup next to the file, see {@link FileUtil#rotateBackups}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.rotateBackups(filePath, JsonAddressBookStorage.GENERATIONS_KEPT);
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryAddressBookCodec.write(addressBook, out));
+    }
+
+}
@@ -0,0 +1,352 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.commons.util.JsonUtil;
+import edutrack.commons.util.PersistentList;
+import edutrack.model.AddressBookSnapshot;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of later changes.
+ *
+ * Saving appends the differences from the previously saved address book to the journal as a single line, a json
+ * array of the entries of that save, and forces it to disk. A crash while appending can thus only leave the last
+ * line incomplete, and reading drops that line, so a save is replayed either whole or not at all.
+ * The snapshot is only rewritten at checkpoints: when the journal has grown long, or when a change (e.g. clearing)
+ * is cheaper to store as a snapshot. Reading replays the journal on top of the snapshot.
+ * The journal starts with the checksum of the snapshot it applies to, computed while the snapshot is written, so a
+ * journal left behind by a checkpoint that was interrupted after rewriting the snapshot is recognised and ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal entries after which the next save writes a checkpoint. */
+    public static final int CHECKPOINT_INTERVAL = 256;
+
+    /** Maximum number of entries for one save, above which a checkpoint is written instead. */
+    public static final int MAX_ENTRIES_PER_SAVE = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // The address book last written to filePath, or null if it is unknown and the next save must be a checkpoint.
+    private PersistentList<Person> savedPersons;
+    private PersistentList<Group> savedGroups;
+    private PersistentList<Tag> savedTags;
+    private int journalLength;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with its snapshot at {@code filePath}.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal belonging to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot;
+        try {
+            snapshot = snapshotStorage.readAddressBook(filePath, false);
+        } catch (DataLoadingException e) {
+            // the journal only applies to the current snapshot, so a previous generation is used as it is
+            if (filePath.equals(this.filePath)) {
+                savedPersons = null;
+            }
+            return snapshotStorage.readAddressBook(filePath);
+        }
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        ReadOnlyAddressBook addressBook;
+        List<JsonAdaptedJournalEntry> entries;
+        try {
+            entries = readJournal(filePath);
+            addressBook = entries == null || entries.isEmpty() ? snapshot.get() : replay(snapshot.get(), entries);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath) && entries != null) {
+            remember(addressBook, entries.size());
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to a location other than this storage's file path are always written as checkpoints.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = savedPersons == null ? null : diff(addressBook);
+        if (entries == null || journalLength + entries.size() > CHECKPOINT_INTERVAL) {
+            // forget the saved state first, so that a failed checkpoint is retried by the next save
+            savedPersons = null;
+            writeCheckpoint(addressBook, filePath);
+            remember(addressBook, 0);
+        } else if (!entries.isEmpty()) {
+            try {
+                append(getJournalPath(filePath), entries);
+            } catch (IOException ioe) {
+                savedPersons = null;
+                throw ioe;
+            }
+            remember(addressBook, journalLength + entries.size());
+        }
+    }
+
+    /**
+     * Returns the journal entries that change the saved address book into {@code addressBook},
+     * or null if there are too many changes and a checkpoint should be written instead.
+     */
+    private List<JsonAdaptedJournalEntry> diff(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        if (!namesOf(savedGroups, group -> group.groupName)
+                .equals(namesOf(snapshot.getGroups(), group -> group.groupName))) {
+            entries.add(JsonAdaptedJournalEntry.groups(snapshot.getGroups()));
+        }
+        if (!namesOf(savedTags, tag -> tag.tagName).equals(namesOf(snapshot.getTags(), tag -> tag.tagName))) {
+            entries.add(JsonAdaptedJournalEntry.tags(snapshot.getTags()));
+        }
+
+        // Persons are immutable, so unchanged persons are the same instances; only the run between the common
+        // prefix and the common suffix needs to be recorded.
+        PersistentList<Person> persons = snapshot.getPersons();
+        int oldSize = savedPersons.size();
+        int newSize = persons.size();
+        int prefix = countSame(savedPersons.iterator(), persons.iterator(), Math.min(oldSize, newSize));
+        int suffix = countSame(savedPersons.descendingIterator(), persons.descendingIterator(),
+                Math.min(oldSize, newSize) - prefix);
+
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        if (entries.size() + Math.max(oldChanged, newChanged) > MAX_ENTRIES_PER_SAVE) {
+            return null;
+        }
+        for (int i = 0; i < Math.min(oldChanged, newChanged); i++) {
+            entries.add(JsonAdaptedJournalEntry.set(prefix + i, persons.get(prefix + i)));
+        }
+        for (int i = oldChanged; i < newChanged; i++) {
+            entries.add(JsonAdaptedJournalEntry.add(prefix + i, persons.get(prefix + i)));
+        }
+        for (int i = newChanged; i < oldChanged; i++) {
+            entries.add(JsonAdaptedJournalEntry.remove(prefix + newChanged));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the number of leading elements, up to {@code max}, that both iterators return as the same instances.
+     */
+    private static int countSame(Iterator<Person> first, Iterator<Person> second, int max) {
+        int count = 0;
+        while (count < max && first.next() == second.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Keeps the lists of the snapshot of {@code addressBook}, which are immutable and shared with the model, as the
+     * saved address book.
+     */
+    private void remember(ReadOnlyAddressBook addressBook, int journalLength) {
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        savedPersons = snapshot.getPersons();
+        savedGroups = snapshot.getGroups();
+        savedTags = snapshot.getTags();
+        this.journalLength = journalLength;
+    }
+
+    /**
+     * Rewrites the snapshot at {@code filePath} and starts a new journal for it.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long checksum = snapshotStorage.saveAddressBookWithChecksum(addressBook, filePath);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.checkpoint(checksum));
+        try (FileChannel channel = FileChannel.open(getJournalPath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header + "\n");
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal as one line, so that they are replayed together or not at all.
+     */
+    private static void append(Path journalPath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        String line = JsonUtil.toCompactJsonString(entries) + "\n";
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, line);
+            channel.force(false);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the entries of the journal belonging to the snapshot at {@code filePath}, without the checkpoint entry.
+     * Returns null if there is no usable journal, e.g. because it belongs to an older snapshot.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path filePath) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return null;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            JsonAdaptedJournalEntry checkpoint = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            if (!checkpoint.isCheckpoint() || checkpoint.getChecksum() == null
+                    || checkpoint.getChecksum() != checksumOf(filePath)) {
+                logger.warning("Journal " + journalPath + " does not belong to " + filePath + ". Ignoring it.");
+                return null;
+            }
+
+            while ((line = reader.readLine()) != null) {
+                try {
+                    entries.addAll(Arrays.asList(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry[].class)));
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        throw e;
+                    }
+                    // only the last save can be torn by a crash while appending, and it was never acknowledged
+                    logger.warning("Ignoring incomplete last save of journal " + journalPath);
+                }
+            }
+        }
+        logger.info("Replaying " + entries.size() + " journal entries from " + journalPath);
+        return entries;
+    }
+
+    /**
+     * Returns {@code snapshot} after the changes of {@code entries}, converting only the persons in the entries.
+     * The result is checked like a stored address book, e.g. for duplicate persons.
+     */
+    private static ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        List<Group> groups = new ArrayList<>(snapshot.getGroupList());
+        List<Tag> tags = new ArrayList<>(snapshot.getTagList());
+        for (JsonAdaptedJournalEntry entry : entries) {
+            if (entry == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY,
+                        "missing entry"));
+            }
+            entry.applyTo(persons, groups, tags);
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (Group group : groups) {
+            assembler.declareGroup(group.groupName);
+        }
+        for (Tag tag : tags) {
+            assembler.declareTag(tag.tagName);
+        }
+        for (Person person : persons) {
+            assembler.addModelPerson(person);
+        }
+        return assembler.build();
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static <T> List<String> namesOf(List<T> values, Function<T, String> nameOf) {
+        return values.stream().map(nameOf).collect(Collectors.toList());
+    }
+}
@@ -38,7 +38,7 @@ public class JsonAdaptedGroup {
      * @throws IllegalValueException if there were any data constraints violated in the adapted group.
      */
     public Group toModelType() throws IllegalValueException {
-        if (!Group.isValidGroupName(groupName)) {
+        if (groupName == null || !Group.isValidGroupName(groupName)) {
             throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
         }
         return new Group(groupName);
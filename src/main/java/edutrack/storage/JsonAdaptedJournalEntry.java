@@ -0,0 +1,159 @@
+package edutrack.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * A journal starts with a {@code checkpoint} entry identifying the data file it applies to, followed by entries that
+ * change the persons list by index, or replace the central group or tag list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry does not apply to the address book: %s";
+
+    static final String OP_CHECKPOINT = "checkpoint";
+    static final String OP_ADD = "add";
+    static final String OP_SET = "set";
+    static final String OP_REMOVE = "remove";
+    static final String OP_GROUPS = "groups";
+    static final String OP_TAGS = "tags";
+
+    private final String op;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final List<JsonAdaptedGroup> groups;
+    private final List<JsonAdaptedTag> tags;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("groups") List<JsonAdaptedGroup> groups, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+        this.groups = groups;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns an entry marking the start of a journal for the data file with the given checksum.
+     */
+    static JsonAdaptedJournalEntry checkpoint(long checksum) {
+        return new JsonAdaptedJournalEntry(OP_CHECKPOINT, checksum, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry inserting {@code person} at {@code index} of the persons list.
+     */
+    static JsonAdaptedJournalEntry add(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OP_ADD, null, index, new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns an entry replacing the person at {@code index} of the persons list with {@code person}.
+     */
+    static JsonAdaptedJournalEntry set(int index, Person person) {
+        return new JsonAdaptedJournalEntry(OP_SET, null, index, new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns an entry removing the person at {@code index} of the persons list.
+     */
+    static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(OP_REMOVE, null, index, null, null, null);
+    }
+
+    /**
+     * Returns an entry replacing the central group list with {@code groups}.
+     */
+    static JsonAdaptedJournalEntry groups(List<Group> groups) {
+        return new JsonAdaptedJournalEntry(OP_GROUPS, null, null, null,
+                groups.stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns an entry replacing the central tag list with {@code tags}.
+     */
+    static JsonAdaptedJournalEntry tags(List<Tag> tags) {
+        return new JsonAdaptedJournalEntry(OP_TAGS, null, null, null, null,
+                tags.stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
+    }
+
+    boolean isCheckpoint() {
+        return OP_CHECKPOINT.equals(op);
+    }
+
+    Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this change to the given address book lists, converting the person or the lists it carries.
+     *
+     * @throws IllegalValueException if the change cannot be applied to the lists, or its data is invalid.
+     */
+    void applyTo(List<Person> persons, List<Group> centralGroups, List<Tag> centralTags)
+            throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            checkIndex(persons.size() + 1);
+            persons.add(index, requirePerson().toModelType());
+            break;
+        case OP_SET:
+            checkIndex(persons.size());
+            persons.set(index, requirePerson().toModelType());
+            break;
+        case OP_REMOVE:
+            checkIndex(persons.size());
+            persons.remove((int) index);
+            break;
+        case OP_GROUPS:
+            centralGroups.clear();
+            for (JsonAdaptedGroup group : groups == null ? List.<JsonAdaptedGroup>of() : groups) {
+                centralGroups.add(group.toModelType());
+            }
+            break;
+        case OP_TAGS:
+            centralTags.clear();
+            for (JsonAdaptedTag tag : tags == null ? List.<JsonAdaptedTag>of() : tags) {
+                centralTags.add(tag.toModelType());
+            }
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown op " + op));
+        }
+    }
+
+    private void checkIndex(int bound) throws IllegalValueException {
+        if (index == null || index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "index " + index + " of " + op));
+        }
+    }
+
+    private JsonAdaptedPerson requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing person of " + op));
+        }
+        return person;
+    }
+}
@@ -79,16 +79,46 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
+        final Set<Tag> modelTags = new HashSet<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            modelTags.add(tag.toModelType());
         }
 
-        final List<Group> personGroups = new ArrayList<>();
+        final Set<Group> modelGroups = new HashSet<>();
         for (JsonAdaptedGroup group : groups) {
-            personGroups.add(group.toModelType());
+            modelGroups.add(group.toModelType());
         }
 
+        return toModelType(name, phone, email, address, modelTags, modelGroups, note);
+    }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object, using the central tags and groups
+     * interned by {@code assembler}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(AddressBookAssembler assembler) throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(assembler.internTag(tag.getTagName()));
+        }
+
+        final Set<Group> modelGroups = new HashSet<>();
+        for (JsonAdaptedGroup group : groups) {
+            modelGroups.add(assembler.internGroup(group.getGroupName()));
+        }
+
+        return toModelType(name, phone, email, address, modelTags, modelGroups, note);
+    }
+
+    /**
+     * Validates the stored person fields and converts them into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the given fields.
+     */
+    static Person toModelType(String name, String phone, String email, String address, Set<Tag> modelTags,
+            Set<Group> modelGroups, String note) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -121,9 +151,6 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        final Set<Group> modelGroups = new HashSet<>(personGroups);
-
         assert note != null : "Note field should not be null";
         if (note == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
@@ -0,0 +1,159 @@
+package edutrack.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Reads an address book json file, in the format written by {@link JsonSerializableAddressBook}, with Jackson's
+ * streaming {@code JsonParser}.
+ * Persons are converted to the model as they are read, instead of first binding the whole file to
+ * {@code JsonAdapted*} objects, and their groups and tags are interned through {@link AddressBookAssembler}.
+ */
+class JsonAddressBookReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final AddressBookAssembler assembler = new AddressBookAssembler();
+    private final JsonParser parser;
+
+    private JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the address book stored in {@code file}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path file) throws IOException, IllegalValueException {
+        try (JsonParser parser = JSON_FACTORY.createParser(file.toFile())) {
+            return new JsonAddressBookReader(parser).readAddressBook();
+        }
+    }
+
+    private AddressBook readAddressBook() throws IOException, IllegalValueException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (fieldName) {
+            case "groups":
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.declareGroup(readString());
+                }
+                break;
+            case "tags":
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.declareTag(readString());
+                }
+                break;
+            case "persons":
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.addPerson(readPerson());
+                }
+                break;
+            default:
+                // unknown properties are ignored, as with JsonUtil
+                parser.skipChildren();
+                break;
+            }
+        }
+        return assembler.build();
+    }
+
+    /**
+     * Reads the person object at the current token.
+     */
+    private Person readPerson() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String note = null;
+        Set<Tag> tags = new HashSet<>();
+        Set<Group> groups = new HashSet<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (fieldName) {
+            case "name":
+                name = readString();
+                break;
+            case "phone":
+                phone = readString();
+                break;
+            case "email":
+                email = readString();
+                break;
+            case "address":
+                address = readString();
+                break;
+            case "note":
+                note = readString();
+                break;
+            case "tags":
+                if (value != JsonToken.VALUE_NULL) {
+                    expect(value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tags.add(assembler.internTag(readString()));
+                    }
+                }
+                break;
+            case "groups":
+                if (value != JsonToken.VALUE_NULL) {
+                    expect(value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        groups.add(assembler.internGroup(readString()));
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        return JsonAdaptedPerson.toModelType(name, phone, email, address, tags, groups, note == null ? "" : note);
+    }
+
+    /**
+     * Returns the scalar value at the current token as a string, or null if the value is null.
+     */
+    private String readString() throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a scalar value but found " + token);
+        }
+        return parser.getValueAsString();
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -3,9 +3,12 @@ package edutrack.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import edutrack.commons.core.LogsCenter;
 import edutrack.commons.exceptions.DataLoadingException;
@@ -19,6 +22,9 @@ import edutrack.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of previous generations of the data file kept as rollback points. */
+    public static final int GENERATIONS_KEPT = 2;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,23 +44,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the data at {@code filePath} cannot be loaded, the most recent previous generation that can be loaded is
+     * used instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, true);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but only falls back to a previous generation if
+     * {@code isFallbackAllowed} is true.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, boolean isFallbackAllowed)
+            throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            if (!isFallbackAllowed) {
+                throw e;
+            }
+            return Optional.of(AddressBookFormatConverter.readPreviousGeneration(filePath, e));
+        }
+    }
+
+    private ReadOnlyAddressBook readFile(Path file) throws DataLoadingException {
+        try {
+            return JsonAddressBookReader.read(file);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + file + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
@@ -66,15 +96,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The previous data is kept as a numbered backup next to the file, see {@link FileUtil#rotateBackups}.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBookWithChecksum(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, and returns the CRC32 checksum of the written
+     * file, computed while the file is written.
+     */
+    long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.rotateBackups(filePath, GENERATIONS_KEPT);
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(addressBook);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath,
+                out -> JsonUtil.writeJson(new CheckedOutputStream(out, checksum), serializable));
+        return checksum.getValue();
     }
 
 }
@@ -0,0 +1,248 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.model.AddressBookSnapshot;
+import edutrack.model.ReadOnlyAddressBook;
+import javafx.collections.ListChangeListener;
+
+/**
+ * Decides when the address book needs to be written to {@code AddressBookStorage}.
+ *
+ * Every change to the persons, groups or tags of the tracked address book bumps a modification generation, so
+ * commands that do not change any data (e.g. {@code list} or {@code find}) never cause a save.
+ * With a positive debounce interval, saves are written by a background thread: a burst of changes is coalesced into
+ * a single write of the latest data, and at most one write is started per interval. With a zero interval, saves are
+ * written synchronously by {@link #saveIfModified()}. Either way, what is written is the immutable snapshot that
+ * the address book published after its last change, so requesting a save never copies the data.
+ * A failed background save is retried on the next call to {@link #saveIfModified()}, which also returns it so that
+ * the caller can tell the user which changes were not saved.
+ *
+ * The tracked address book must only be mutated, and this scheduler only called, from a single thread.
+ */
+public class PersistenceScheduler {
+
+    /** Debounce interval used by the application for background saves. */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceScheduler.class);
+
+    private final AddressBookStorage storage;
+    private final ReadOnlyAddressBook addressBook;
+    private final long debounceMillis;
+    private final ScheduledExecutorService writer;
+
+    private final AtomicLong modifiedGeneration = new AtomicLong();
+    private final AtomicLong savedGeneration = new AtomicLong();
+    private long requestedGeneration = 0;
+
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    private final AtomicReference<FailedSave> lastFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code PersistenceScheduler} that saves {@code addressBook} synchronously whenever it was modified.
+     */
+    public PersistenceScheduler(AddressBookStorage storage, ReadOnlyAddressBook addressBook) {
+        this(storage, addressBook, 0);
+    }
+
+    /**
+     * Creates a {@code PersistenceScheduler} that saves {@code addressBook} at most once every
+     * {@code debounceMillis} milliseconds on a background thread, or synchronously if {@code debounceMillis} is 0.
+     */
+    public PersistenceScheduler(AddressBookStorage storage, ReadOnlyAddressBook addressBook, long debounceMillis) {
+        requireNonNull(storage);
+        requireNonNull(addressBook);
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce interval must not be negative");
+        }
+        this.storage = storage;
+        this.addressBook = addressBook;
+        this.debounceMillis = debounceMillis;
+        this.writer = debounceMillis == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ListChangeListener<Object> onChange = change -> markModified();
+        addressBook.getPersonList().addListener(onChange);
+        addressBook.getGroupList().addListener(onChange);
+        addressBook.getTagList().addListener(onChange);
+    }
+
+    /**
+     * Records that the address book differs from the stored data, e.g. because the data file does not exist yet.
+     */
+    public void markModified() {
+        modifiedGeneration.incrementAndGet();
+    }
+
+    /**
+     * Saves the address book if it was modified since the last call.
+     * In background mode, the save is only scheduled, and a background save that failed since the last call is
+     * scheduled again.
+     *
+     * @return the background save that failed since the last call, if any.
+     * @throws IOException if the synchronous save failed.
+     */
+    public Optional<FailedSave> saveIfModified() throws IOException {
+        FailedSave failure = lastFailure.getAndSet(null);
+        if (failure != null) {
+            // the failed data was not written, so make sure it is written again
+            requestedGeneration = 0;
+        }
+
+        long generation = modifiedGeneration.get();
+        if (generation != requestedGeneration) {
+            Snapshot snapshot = new Snapshot(addressBook.getSnapshot(), generation);
+            if (writer == null) {
+                write(snapshot);
+            } else {
+                pendingSnapshot.set(snapshot);
+                if (isWriteScheduled.compareAndSet(false, true)) {
+                    writer.schedule(this::writePending, debounceMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            requestedGeneration = generation;
+        }
+
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Writes any modification that has not been saved yet, and waits for the write to complete.
+     *
+     * @throws IOException if the write failed.
+     */
+    public void flush() throws IOException {
+        lastFailure.set(null);
+        long generation = modifiedGeneration.get();
+        if (generation == savedGeneration.get()) {
+            return;
+        }
+        requestedGeneration = generation;
+        Snapshot snapshot = new Snapshot(addressBook.getSnapshot(), generation);
+        if (writer == null) {
+            write(snapshot);
+            return;
+        }
+
+        pendingSnapshot.set(null);
+        try {
+            // runs on the writer thread so that it is ordered after any write in progress
+            writer.submit(() -> {
+                write(snapshot);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving address book", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Stops the background writer. Modifications that were not flushed are not saved.
+     */
+    public void shutdown() {
+        if (writer != null) {
+            writer.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the modification generation of the address book, which increases whenever its data changes.
+     */
+    public long getModifiedGeneration() {
+        return modifiedGeneration.get();
+    }
+
+    /**
+     * Returns the modification generation of the last address book data written to storage.
+     */
+    public long getSavedGeneration() {
+        return savedGeneration.get();
+    }
+
+    private void writePending() {
+        isWriteScheduled.set(false);
+        Snapshot snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            write(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e);
+            lastFailure.set(new FailedSave(snapshot.requestTime, e));
+        }
+    }
+
+    private void write(Snapshot snapshot) throws IOException {
+        if (snapshot.generation <= savedGeneration.get()) {
+            return;
+        }
+        storage.saveAddressBook(snapshot.data);
+        savedGeneration.set(snapshot.generation);
+    }
+
+    /**
+     * The contents of the address book at one modification generation, which can be written to storage on another
+     * thread while the address book keeps changing.
+     */
+    private static class Snapshot {
+        private final AddressBookSnapshot data;
+        private final long generation;
+        private final LocalTime requestTime;
+
+        Snapshot(AddressBookSnapshot data, long generation) {
+            this.data = data;
+            this.generation = generation;
+            this.requestTime = LocalTime.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A background save that could not be written, identified by the time it was requested.
+     */
+    public static class FailedSave {
+        private final LocalTime requestTime;
+        private final IOException cause;
+
+        FailedSave(LocalTime requestTime, IOException cause) {
+            this.requestTime = requestTime;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the time at which the save was requested, i.e. the time of the last change it would have written.
+         */
+        public LocalTime getRequestTime() {
+            return requestTime;
+        }
+
+        public IOException getCause() {
+            return cause;
+        }
+    }
+}
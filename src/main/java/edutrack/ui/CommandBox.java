@@ -1,15 +1,17 @@
 package edutrack.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import edutrack.logic.commands.CommandResult;
-import edutrack.logic.commands.exceptions.CommandException;
-import edutrack.logic.parser.exceptions.ParseException;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While a command is running, the command box is read-only and shows a busy indicator.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -21,6 +23,9 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -37,16 +42,27 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || !commandTextField.isEditable()) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows whether a command is running, during which no other command can be entered.
+     */
+    private void setBusy(boolean isBusy) {
+        commandTextField.setEditable(!isBusy);
+        busyIndicator.setVisible(isBusy);
     }
 
     /**
@@ -75,11 +91,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result, which completes on the JavaFX Application Thread,
+         * exceptionally if the command failed.
          *
          * @see edutrack.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
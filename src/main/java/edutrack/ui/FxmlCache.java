@@ -0,0 +1,45 @@
+package edutrack.ui;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.BuilderFactory;
+
+/**
+ * Caches what {@code UiPart}s loaded from the same FXML file can share: the contents of the file, and the factory
+ * that looks up how to build each of its elements.
+ */
+final class FxmlCache {
+
+    /**
+     * Builds the elements of every FXML file. Sharing it keeps the type lookups it caches, which every
+     * {@code FXMLLoader} would otherwise repeat with a factory of its own.
+     */
+    static final BuilderFactory BUILDER_FACTORY = new JavaFXBuilderFactory();
+
+    // keyed by the external form, since URL#equals may resolve host names
+    private static final Map<String, byte[]> contentsByLocation = new ConcurrentHashMap<>();
+
+    private FxmlCache() {}
+
+    /**
+     * Returns a stream of the contents of the FXML file at {@code location}, which is only read the first time.
+     * @throws IOException if the file cannot be read.
+     */
+    static InputStream open(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] contents = contentsByLocation.get(key);
+        if (contents == null) {
+            try (InputStream in = location.openStream()) {
+                contents = in.readAllBytes();
+            }
+            contentsByLocation.put(key, contents);
+        }
+        return new ByteArrayInputStream(contents);
+    }
+}
@@ -8,12 +8,13 @@ import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays information of a {@code Group}.
+ * A card can be rebound to another group, which updates its labels in place instead of loading a new card.
  */
 public class GroupCard extends UiPart<Region> {
 
     private static final String FXML = "GroupListCard.fxml";
 
-    public final Group group;
+    private Group group;
 
     @FXML
     private HBox cardPane;
@@ -22,11 +23,29 @@ public class GroupCard extends UiPart<Region> {
     @FXML
     private Label groupName;
 
+    /**
+     * Creates an empty {@code GroupCard}, to be bound to a group with {@link #setGroup(Group, int)}.
+     */
+    public GroupCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code GroupCard} with the given {@code Group} and index to display.
      */
     public GroupCard(Group group, int displayedIndex) {
-        super(FXML);
+        this();
+        setGroup(group, displayedIndex);
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Displays {@code group} with the given index, reusing the labels of this card.
+     */
+    public void setGroup(Group group, int displayedIndex) {
         this.group = group;
         id.setText(displayedIndex + ". ");
         groupName.setText(group.groupName);
@@ -31,8 +31,11 @@ public class GroupsPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Group} using a {@code GroupCard}.
+     * Each cell loads its card once, and rebinds it to whichever group the cell is reused for while scrolling.
      */
     class GroupListViewCell extends ListCell<Group> {
+        private final GroupCard card = new GroupCard();
+
         @Override
         protected void updateItem(Group group, boolean empty) {
             super.updateItem(group, empty);
@@ -41,7 +44,8 @@ public class GroupsPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GroupCard(group, getIndex() + 1).getRoot());
+                card.setGroup(group, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,9 +1,12 @@
 package edutrack.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.commons.core.LogsCenter;
+import edutrack.commons.util.StringUtil;
+import edutrack.logic.CommandRunner;
 import edutrack.logic.Logic;
 import edutrack.logic.commands.CommandResult;
 import edutrack.logic.commands.GroupListCommand;
@@ -31,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -55,14 +59,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are run by
+     * {@code commandRunner}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandRunner commandRunner) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = commandRunner;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -70,7 +76,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        statsWindow = new StatsWindow(logic);
+        statsWindow = new StatsWindow(commandRunner);
     }
 
     public Stage getPrimaryStage() {
@@ -115,11 +121,11 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandRunner.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         // prepare groups panel (not shown by default)
-        groupsPanel = new GroupsPanel(logic.getFilteredGroupList());
+        groupsPanel = new GroupsPanel(commandRunner.getFilteredGroupList());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -209,46 +215,53 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns its result, which completes on the JavaFX Application
+     * Thread after the result has been shown.
      *
      * @see Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            // If the user listed groups, show groups panel instead of person list
-            if (commandText != null && commandText.trim().equals(GroupListCommand.COMMAND_WORD)) {
-                personListPanelPlaceholder.getChildren().clear();
-                personListPanelPlaceholder.getChildren().add(groupsPanel.getRoot());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandRunner.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                handleCommandResult(commandText, commandResult);
+            } else if (error instanceof CommandException || error instanceof ParseException) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
             } else {
-                // ensure person list is shown for other commands
-                if (personListPanelPlaceholder.getChildren().isEmpty()
-                        || personListPanelPlaceholder.getChildren().get(0) != personListPanel.getRoot()) {
-                    personListPanelPlaceholder.getChildren().clear();
-                    personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-                }
+                logger.severe("Unexpected error while executing command: " + commandText + " "
+                        + StringUtil.getDetails(error));
+                resultDisplay.setFeedbackToUser(error.toString());
             }
+        });
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void handleCommandResult(String commandText, CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
+        // If the user listed groups, show groups panel instead of person list
+        if (commandText != null && commandText.trim().equals(GroupListCommand.COMMAND_WORD)) {
+            personListPanelPlaceholder.getChildren().clear();
+            personListPanelPlaceholder.getChildren().add(groupsPanel.getRoot());
+        } else {
+            // ensure person list is shown for other commands
+            if (personListPanelPlaceholder.getChildren().isEmpty()
+                    || personListPanelPlaceholder.getChildren().get(0) != personListPanel.getRoot()) {
+                personListPanelPlaceholder.getChildren().clear();
+                personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
             }
+        }
 
-            if (commandResult.isShowStats()) {
-                handleStats();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowStats()) {
+            handleStats();
         }
     }
 }
@@ -1,9 +1,12 @@
 package edutrack.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import edutrack.model.person.Person;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +14,7 @@ import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to another person, which updates its labels in place instead of loading a new card.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +28,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -46,23 +51,68 @@ public class PersonCard extends UiPart<Region> {
     private Label note;
 
 
+    /**
+     * Creates an empty {@code PersonCard}, to be bound to a person with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with the given index, reusing the labels of this card.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (displayedIndex != this.displayedIndex) {
+            this.displayedIndex = displayedIndex;
+            id.setText(displayedIndex + ". ");
+        }
+        if (person == this.person) {
+            // persons are immutable, so the rest of the card is already up to date
+            return;
+        }
         this.person = person;
-        id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText("Phone: " + person.getPhone().value);
         address.setText("Address: " + person.getAddress().value);
         email.setText("Email: " + person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getGroups().stream()
-                .sorted(Comparator.comparing(group -> group.groupName))
-                .forEach(group -> groups.getChildren().add(new Label(group.groupName)));
+        setLabels(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+        setLabels(groups, person.getGroups().stream()
+                .map(group -> group.groupName)
+                .sorted()
+                .collect(Collectors.toList()));
         note.setText("Note: " + person.getNote().value);
     }
+
+    /**
+     * Makes {@code pane} show a label for each of {@code texts}, relabelling its existing labels and only adding or
+     * removing labels for the difference in number.
+     */
+    private static void setLabels(FlowPane pane, List<String> texts) {
+        ObservableList<Node> labels = pane.getChildren();
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                ((Label) labels.get(i)).setText(texts.get(i));
+            } else {
+                labels.add(new Label(texts.get(i)));
+            }
+        }
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+    }
 }
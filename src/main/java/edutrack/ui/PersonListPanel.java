@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads its card once, and rebinds it to whichever person the cell is reused for while scrolling.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private final PersonCard card = new PersonCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,8 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,14 +1,11 @@
 package edutrack.ui;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.LogsCenter;
-import edutrack.logic.Logic;
+import edutrack.logic.CommandRunner;
+import edutrack.model.Statistics;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
@@ -26,25 +23,25 @@ public class StatsWindow extends UiPart<Stage> {
     @FXML
     private Label statsMessage;
 
-    private final Logic logic;
+    private final CommandRunner commandRunner;
 
     /**
      * Creates a new StatsWindow.
      *
      * @param root Stage to use as the root of the StatsWindow.
-     * @param logic Logic to access data for statistics.
+     * @param commandRunner CommandRunner that publishes the statistics after each command.
      */
-    public StatsWindow(Stage root, Logic logic) {
+    public StatsWindow(Stage root, CommandRunner commandRunner) {
         super(FXML, root);
-        this.logic = logic;
+        this.commandRunner = commandRunner;
         updateStatsDisplay();
     }
 
     /**
      * Creates a new StatsWindow.
      */
-    public StatsWindow(Logic logic) {
-        this(new Stage(), logic);
+    public StatsWindow(CommandRunner commandRunner) {
+        this(new Stage(), commandRunner);
     }
 
     /**
@@ -125,102 +122,61 @@ public class StatsWindow extends UiPart<Stage> {
     }
 
     /**
-     * Updates the statistics display with current data.
+     * Updates the statistics display with the statistics published after the last command.
+     * The model itself is not read here, as commands change it on another thread.
      */
     private void updateStatsDisplay() {
-        StringBuilder statsText = new StringBuilder();
-
-        // Get all persons and groups
-        var personList = logic.getAddressBook().getPersonList();
-        int totalStudents = personList.size();
-
-        // Collect all tags and count them
-        Map<String, Integer> tagCounts = new HashMap<>();
-        for (var person : personList) {
-            for (var tag : person.getTags()) {
-                String tagName = tag.tagName.toLowerCase(); // Case-insensitive counting
-                tagCounts.put(tagName, tagCounts.getOrDefault(tagName, 0) + 1);
-            }
-        }
+        statsMessage.setText(buildStatsText(commandRunner.getStatistics()));
+    }
 
-        // Debug: Log tag information
-        logger.info(() -> "Found " + tagCounts.size() + " unique tags: " + tagCounts.keySet());
+    /**
+     * Returns the text of {@code statistics}.
+     */
+    static String buildStatsText(Statistics statistics) {
+        StringBuilder statsText = new StringBuilder();
+        Statistics.Counts total = statistics.getTotal();
 
-        // Sort tags alphabetically
-        List<String> sortedTags = new ArrayList<>(tagCounts.keySet());
-        Collections.sort(sortedTags);
+        logger.fine(() -> "Found " + total.getTagCounts().size() + " unique tags: " + total.getTagCounts().keySet());
 
-        // Build the statistics text
         statsText.append("=== TOTAL STATS ===\n");
-        statsText.append("Total Students: ").append(totalStudents).append("\n");
-        statsText.append("Total Unique Tags in use: ").append(tagCounts.size()).append("\n");
+        statsText.append("Total Students: ").append(total.getStudentCount()).append("\n");
+        statsText.append("Total Unique Tags in use: ").append(total.getTagCounts().size()).append("\n");
         statsText.append("Tags in use:\n");
+        appendTagCounts(statsText, total, "  ");
 
-        if (sortedTags.isEmpty()) {
-            statsText.append("  (No tags found)\n");
-        } else {
-            for (int i = 0; i < sortedTags.size(); i++) {
-                String tagName = sortedTags.get(i);
-                int count = tagCounts.get(tagName);
-                statsText.append("  ")
-                         .append(i + 1)
-                         .append(". ")
-                         .append(tagName)
-                         .append(": ")
-                         .append(count)
-                         .append("\n");
-            }
-        }
-
-        // Add group statistics
         statsText.append("\n=== GROUP STATS ===\n");
-        var groupList = logic.getAddressBook().getGroupList();
-
-        if (groupList.isEmpty()) {
+        if (statistics.getCountsByGroup().isEmpty()) {
             statsText.append("(No groups found)\n");
         } else {
-            for (var group : groupList) {
-                // Get students in this group
-                List<edutrack.model.person.Person> studentsInGroup = new ArrayList<>();
-                for (var person : personList) {
-                    if (person.getGroups().contains(group)) {
-                        studentsInGroup.add(person);
-                    }
-                }
-                // Count tags for this group
-                Map<String, Integer> groupTagCounts = new HashMap<>();
-                for (var student : studentsInGroup) {
-                    for (var tag : student.getTags()) {
-                        String tagName = tag.tagName.toLowerCase();
-                        groupTagCounts.put(tagName, groupTagCounts.getOrDefault(tagName, 0) + 1);
-                    }
-                }
-                // Sort group tags alphabetically
-                List<String> sortedGroupTags = new ArrayList<>(groupTagCounts.keySet());
-                Collections.sort(sortedGroupTags);
-                // Add group statistics
+            statistics.getCountsByGroup().forEach((group, counts) -> {
                 statsText.append("\nGroup: ").append(group.groupName).append("\n");
-                statsText.append("  Students: ").append(studentsInGroup.size()).append("\n");
-                statsText.append("  Unique Tags: ").append(groupTagCounts.size()).append("\n");
+                statsText.append("  Students: ").append(counts.getStudentCount()).append("\n");
+                statsText.append("  Unique Tags: ").append(counts.getTagCounts().size()).append("\n");
                 statsText.append("  Tags:\n");
-                if (sortedGroupTags.isEmpty()) {
-                    statsText.append("    (No tags found)\n");
-                } else {
-                    for (int i = 0; i < sortedGroupTags.size(); i++) {
-                        String tagName = sortedGroupTags.get(i);
-                        int count = groupTagCounts.get(tagName);
-                        statsText.append("    ")
-                                 .append(i + 1)
-                                 .append(". ")
-                                 .append(tagName)
-                                 .append(": ")
-                                 .append(count)
-                                 .append("\n");
-                    }
-                }
-            }
+                appendTagCounts(statsText, counts, "    ");
+            });
+        }
+        return statsText.toString();
+    }
+
+    /**
+     * Appends a numbered line for each tag of {@code counts}, in alphabetical order, to {@code statsText}.
+     */
+    private static void appendTagCounts(StringBuilder statsText, Statistics.Counts counts, String indent) {
+        if (counts.getTagCounts().isEmpty()) {
+            statsText.append(indent).append("(No tags found)\n");
+            return;
+        }
+        int i = 1;
+        for (Map.Entry<String, Integer> tagCount : counts.getTagCounts().entrySet()) {
+            statsText.append(indent)
+                     .append(i++)
+                     .append(". ")
+                     .append(tagCount.getKey())
+                     .append(": ")
+                     .append(tagCount.getValue())
+                     .append("\n");
         }
-        statsMessage.setText(statsText.toString());
     }
 
 }
@@ -8,12 +8,13 @@ import javafx.scene.layout.Region;
 
 /**
  * An UI component that displays information of a {@code Tag}.
+ * A card can be rebound to another tag, which updates its labels in place instead of loading a new card.
  */
 public class TagCard extends UiPart<Region> {
 
     private static final String FXML = "TagListCard.fxml";
 
-    public final Tag tag;
+    private Tag tag;
 
     @FXML
     private HBox cardPane;
@@ -22,11 +23,29 @@ public class TagCard extends UiPart<Region> {
     @FXML
     private Label tagName;
 
+    /**
+     * Creates an empty {@code TagCard}, to be bound to a tag with {@link #setTag(Tag, int)}.
+     */
+    public TagCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code TagCard} with the given {@code Tag} and index to display.
      */
     public TagCard(Tag tag, int displayedIndex) {
-        super(FXML);
+        this();
+        setTag(tag, displayedIndex);
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    /**
+     * Displays {@code tag} with the given index, reusing the labels of this card.
+     */
+    public void setTag(Tag tag, int displayedIndex) {
         this.tag = tag;
         id.setText(displayedIndex + ". ");
         tagName.setText(tag.tagName);
@@ -31,8 +31,11 @@ public class TagListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Tag} using a {@code TagCard}.
+     * Each cell loads its card once, and rebinds it to whichever tag the cell is reused for while scrolling.
      */
     class TagListViewCell extends ListCell<Tag> {
+        private final TagCard card = new TagCard();
+
         @Override
         protected void updateItem(Tag tag, boolean empty) {
             super.updateItem(tag, empty);
@@ -41,7 +44,8 @@ public class TagListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TagCard(tag, getIndex() + 1).getRoot());
+                card.setTag(tag, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
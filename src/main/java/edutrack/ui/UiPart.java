@@ -3,6 +3,7 @@ package edutrack.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import edutrack.MainApp;
@@ -11,6 +12,7 @@ import javafx.fxml.FXMLLoader;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * FXML files are read once and shared by all parts loaded from them, see {@link FxmlCache}.
  */
 public abstract class UiPart<T> {
 
@@ -68,8 +70,9 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        fxmlLoader.setBuilderFactory(FxmlCache.BUILDER_FACTORY);
+        try (InputStream fxml = FxmlCache.open(location)) {
+            fxmlLoader.load(fxml);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
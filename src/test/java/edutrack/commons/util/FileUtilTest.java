@@ -1,13 +1,27 @@
 package edutrack.commons.util;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,75 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsOldContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerClosesStream_success() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> {
+            out.write("content".getBytes());
+            out.close();
+        });
+
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeToFileAtomically_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeToFileAtomically_newFile_defaultPermissions() throws Exception {
+        Path defaultFile = Files.createFile(testFolder.resolve("default.txt"));
+        Path file = testFolder.resolve("file.txt");
+
+        FileUtil.writeToFile(file, "content");
+        assertEquals(Files.getPosixFilePermissions(defaultFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void rotateBackups_keepsRequestedGenerations() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int i = 1; i <= 4; i++) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFile(file, "version " + i);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
 }
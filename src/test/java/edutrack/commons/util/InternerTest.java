@@ -0,0 +1,44 @@
+package edutrack.commons.util;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>(String::toLowerCase);
+
+    @Test
+    public void idOf_newKeys_assignsConsecutiveIds() {
+        assertEquals(0, interner.idOf("alpha"));
+        assertEquals(1, interner.idOf("beta"));
+        assertEquals(0, interner.idOf("ALPHA"));
+        assertNotEquals(interner.idOf("alpha"), interner.idOf("gamma"));
+    }
+
+    @Test
+    public void get_manyIds_returnsFirstValueWithKey() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, interner.idOf("Value" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Value" + i, interner.get(interner.idOf("value" + i)));
+        }
+    }
+
+    @Test
+    public void intern_equalKeys_returnsCanonicalInstance() {
+        String first = new String("alpha");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("alpha")));
+        assertSame(first, interner.intern("ALPHA"));
+    }
+
+    @Test
+    public void idOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.idOf(null));
+    }
+}
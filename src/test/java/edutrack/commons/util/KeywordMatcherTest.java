@@ -0,0 +1,44 @@
+package edutrack.commons.util;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Arrays.asList("alice", "  ")));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Arrays.asList("alice", "bob carol")));
+    }
+
+    @Test
+    public void matchesAny_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(Collections.emptyList());
+        assertFalse(matcher.matchesAny(StringUtil.foldWords("Alice Bob")));
+    }
+
+    @Test
+    public void matchesAny_agreesWithContainsWordIgnoreCase() {
+        List<String> keywords = Arrays.asList("aLIce", " bob ", "ß", "İ", "s/o");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        String[] sentences = {"Alice Pauline", "alic bobby", "BOB", "Strauß", "ß", "i", "Tan s/o Lim", "S/O", "SS"};
+        for (String sentence : sentences) {
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(sentence, keyword));
+            assertEquals(expected, matcher.matchesAny(StringUtil.foldWords(sentence)), sentence);
+            assertEquals(expected, matcher.matchesAnyWordOf(sentence), sentence);
+        }
+    }
+}
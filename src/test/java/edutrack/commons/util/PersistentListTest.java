@@ -0,0 +1,94 @@
+package edutrack.commons.util;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_elements_sameElementsInOrder() {
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+        assertEquals(List.of("a", "b", "c", "d"), PersistentList.copyOf(List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    public void modifiedCopies_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(List.of("x", "a", "b", "c"), original.plus(0, "x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void countUnsharedNodes_modifiedCopy_countsOnlyCopiedPath() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c", "d", "e", "f", "g"));
+        assertEquals(0, original.countUnsharedNodes(original));
+        assertEquals(7, original.countUnsharedNodes(PersistentList.copyOf(original)));
+        // the balanced tree of seven elements has "a" at depth three
+        assertEquals(3, original.with(0, "x").countUnsharedNodes(original));
+        assertEquals(1, original.with(3, "x").countUnsharedNodes(original));
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        List<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+    }
+
+    @Test
+    public void randomOperations_agreeWithArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> actualVersions = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int size = expected.size();
+            int operation = random.nextInt(4);
+            if (operation == 0 && size > 0) {
+                int index = random.nextInt(size);
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else if (operation == 1 && size > 0) {
+                int index = random.nextInt(size);
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(size + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            }
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                actualVersions.add(actual);
+            }
+        }
+        assertEquals(expected, actual);
+        List<Integer> reversed = new ArrayList<>();
+        actual.descendingIterator().forEachRemaining(reversed::add);
+        Collections.reverse(reversed);
+        assertEquals(expected, reversed);
+        assertEquals(expected.get(expected.size() / 2), actual.get(expected.size() / 2));
+        assertEquals(expectedVersions, actualVersions);
+    }
+}
@@ -1,10 +1,14 @@
 package edutrack.commons.util;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,63 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase and foldWords --------------------------------------
+
+    @Test
+    public void foldCase_equalsIgnoreCase_sameFoldedForm() {
+        String[][] pairs = {
+            {"Alice", "aLICE"}, {"ÄÖü", "äöÜ"}, {"ǅ", "ǆ"}, {"İ", "i"}, {"\uD801\uDC00", "\uD801\uDC28"}
+        };
+        for (String[] pair : pairs) {
+            assertTrue(pair[0].equalsIgnoreCase(pair[1]));
+            assertEquals(StringUtil.foldCase(pair[0]), StringUtil.foldCase(pair[1]));
+        }
+        assertNotEquals(StringUtil.foldCase("ß"), StringUtil.foldCase("SS"));
+        assertEquals(4, StringUtil.foldCase("İİİİ").length());
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameString() {
+        String folded = "alice 123";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldWords_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.foldWords(""));
+        assertEquals(List.of(), StringUtil.foldWords(" \t "));
+        assertEquals(List.of("aaa", "bbb", "ccc@1"), StringUtil.foldWords("  AAA   bBb \t\n ccc@1  "));
+        assertEquals(List.of("o'brien-smith", "s/o"), StringUtil.foldWords("O'Brien-Smith S/O"));
+    }
+
+    @Test
+    public void foldWords_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldWords(null));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("john", "john"));
+        assertEquals(4, StringUtil.editDistance("", "john"));
+        assertEquals(4, StringUtil.editDistance("john", ""));
+        assertEquals(1, StringUtil.editDistance("jon", "john")); // insertion
+        assertEquals(1, StringUtil.editDistance("johnn", "john")); // deletion
+        assertEquals(1, StringUtil.editDistance("joan", "john")); // substitution
+        assertEquals(1, StringUtil.editDistance("jonh", "john")); // transposition
+        assertEquals(2, StringUtil.editDistance("ca", "abc")); // transposition, then insertion in between
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("sitting", "kitten"));
+    }
+
+    @Test
+    public void editDistance_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "john"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("john", null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
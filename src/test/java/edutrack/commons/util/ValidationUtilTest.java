@@ -0,0 +1,91 @@
+package edutrack.commons.util;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Address;
+import edutrack.model.person.Name;
+import edutrack.model.person.Note;
+import edutrack.model.person.Phone;
+import edutrack.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters around the edges of the character classes of the validation regexes. */
+    private static final String ALPHABET = "aZ09_-/+.' @\t\n\u000B\u001F\u007F~é́٣Ⅰ "
+            + "中😀\ud800";
+
+    @Test
+    public void fullMatcher_partialMatch_returnsFalse() {
+        Predicate<String> matcher = ValidationUtil.fullMatcher("[a-z]+");
+        assertTrue(matcher.test("abc"));
+        assertFalse(matcher.test("abc1"));
+        assertFalse(matcher.test(""));
+    }
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(ValidationUtil.isAsciiAlphanumeric("CS2103T_a-b/c", "_-/"));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("", "_-/"));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("café", "_-/"));
+        assertFalse(ValidationUtil.isAsciiAlphanumeric("a b", "_-/"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAsciiAlphanumeric(null, ""));
+    }
+
+    @Test
+    public void isUnicodeAlphanumeric() {
+        assertTrue(ValidationUtil.isUnicodeAlphanumeric("José O'Neil-Smith Jr./2", " '-./"));
+        assertTrue(ValidationUtil.isUnicodeAlphanumeric("李小龙", ""));
+        assertFalse(ValidationUtil.isUnicodeAlphanumeric(" Alex", " "));
+        assertFalse(ValidationUtil.isUnicodeAlphanumeric("'Alex", "'"));
+        assertFalse(ValidationUtil.isUnicodeAlphanumeric("Alex_Yeoh", " "));
+    }
+
+    @Test
+    public void isPrintableText() {
+        assertTrue(ValidationUtil.isPrintableText("Blk 30, #06-40\twith a tab"));
+        assertTrue(ValidationUtil.isPrintableText("École street"));
+        assertFalse(ValidationUtil.isPrintableText(" leading space"));
+        assertFalse(ValidationUtil.isPrintableText("\u0007bell"));
+        assertFalse(ValidationUtil.isPrintableText("café"));
+    }
+
+    @Test
+    public void validators_randomStrings_agreeWithValidationRegexes() {
+        for (String test : randomStrings()) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+            assertEquals(test.matches(Group.VALIDATION_REGEX), Group.isValidGroupName(test), test);
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+            assertEquals(test.isEmpty() || test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test), test);
+            assertEquals(test.isEmpty() || test.matches(Note.VALIDATION_REGEX), Note.isValidNote(test), test);
+            boolean isValidPhone = test.isEmpty() || test.matches(Phone.VALIDATION_REGEX)
+                    && test.chars().filter(Character::isDigit).count() >= 3;
+            assertEquals(isValidPhone, Phone.isValidPhone(test), test);
+        }
+    }
+
+    private static List<String> randomStrings() {
+        Random random = new Random(2103);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                // draws digits more often, so that some strings are valid phone numbers
+                builder.append(random.nextInt(4) == 0 ? '5' : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+}
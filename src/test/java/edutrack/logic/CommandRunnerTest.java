@@ -0,0 +1,113 @@
+package edutrack.logic;
+
+import static edutrack.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.logic.commands.ClearCommand;
+import edutrack.logic.commands.CommandResult;
+import edutrack.logic.commands.DeleteCommand;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.storage.JsonAddressBookStorage;
+import edutrack.storage.JsonUserPrefsStorage;
+import edutrack.storage.StorageManager;
+
+public class CommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> publications = new LinkedBlockingQueue<>();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Logic logic;
+    private CommandRunner commandRunner;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        commandRunner = new CommandRunner(logic, publications::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandRunner.shutdown();
+    }
+
+    @Test
+    public void execute_validCommand_publishesListsBeforeResult() throws Exception {
+        int size = model.getFilteredPersonList().size();
+        CompletableFuture<CommandResult> result = commandRunner.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertFalse(result.isDone());
+
+        boolean wasListPublished = false;
+        while (!result.isDone()) {
+            takePublication().run();
+            wasListPublished |= commandRunner.getFilteredPersonList().size() == size - 1;
+            assertTrue(wasListPublished || !result.isDone());
+        }
+        assertEquals(model.getFilteredPersonList(), commandRunner.getFilteredPersonList());
+        assertTrue(result.get().getFeedbackToUser().startsWith("Deleted Person"));
+    }
+
+    @Test
+    public void execute_validCommand_publishesStatisticsWithResult() throws Exception {
+        int studentCount = commandRunner.getStatistics().getTotal().getStudentCount();
+        CompletableFuture<CommandResult> result = commandRunner.execute(DeleteCommand.COMMAND_WORD + " 1");
+        while (!result.isDone()) {
+            assertEquals(studentCount, commandRunner.getStatistics().getTotal().getStudentCount());
+            takePublication().run();
+        }
+        assertEquals(studentCount - 1, commandRunner.getStatistics().getTotal().getStudentCount());
+    }
+
+    @Test
+    public void execute_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandRunner.execute("uicfhmowqewca");
+        takePublication().run();
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+    }
+
+    @Test
+    public void execute_severalCommands_runInOrder() throws Exception {
+        commandRunner.execute(ClearCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> confirmation = commandRunner.execute(ClearCommand.COMMAND_WORD + " confirm");
+        commandRunner.shutdown();
+        publications.forEach(Runnable::run);
+
+        assertTrue(confirmation.isDone());
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, confirmation.get().getFeedbackToUser());
+        assertTrue(commandRunner.getFilteredPersonList().isEmpty());
+    }
+
+    private Runnable takePublication() throws InterruptedException {
+        Runnable publication = publications.poll(10, TimeUnit.SECONDS);
+        if (publication == null) {
+            fail("Nothing was published");
+        }
+        return publication;
+    }
+}
@@ -0,0 +1,124 @@
+package edutrack.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PublishedListTest {
+
+    private final List<Runnable> publications = new ArrayList<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final PublishedList<String> publishedList = new PublishedList<>(source, publications::add);
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(List.of("a", "b", "c"), publishedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_appliedOnlyWhenPublished() {
+        source.add("d");
+        source.remove("a");
+        assertEquals(List.of("a", "b", "c"), publishedList.asUnmodifiableObservableList());
+
+        publish();
+        assertEquals(List.of("b", "c", "d"), publishedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void burstOfChanges_publishedOnceInSingleChange() {
+        int[] changeCount = {0};
+        ListChangeListener<String> changeCounter = unused -> changeCount[0]++;
+        publishedList.asUnmodifiableObservableList().addListener(changeCounter);
+
+        source.add("d");
+        source.set(0, "z");
+        source.remove(1, 3);
+        source.addAll(0, List.of("x", "y"));
+        assertEquals(1, publications.size());
+
+        publish();
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of("x", "y", "z", "d"), publishedList.asUnmodifiableObservableList());
+
+        // a change after the publication schedules another one
+        source.clear();
+        assertEquals(1, publications.size());
+        publish();
+        assertEquals(List.of(), publishedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void heldChanges_publishedOnceWhenReleased() {
+        publishedList.hold();
+        source.add("d");
+        source.remove("a");
+        assertEquals(0, publications.size());
+
+        publishedList.release();
+        assertEquals(1, publications.size());
+        publish();
+        assertEquals(List.of("b", "c", "d"), publishedList.asUnmodifiableObservableList());
+
+        // releasing without changes publishes nothing, and later changes are published as they are made
+        publishedList.hold();
+        publishedList.release();
+        assertEquals(0, publications.size());
+        source.clear();
+        assertEquals(1, publications.size());
+    }
+
+    @Test
+    public void randomChanges_copyEqualsSource() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 500; i++) {
+            int size = source.size();
+            switch (random.nextInt(6)) {
+            case 0:
+                source.add(random.nextInt(size + 1), "e" + i);
+                break;
+            case 1:
+                if (size > 0) {
+                    source.remove(random.nextInt(size));
+                }
+                break;
+            case 2:
+                if (size > 0) {
+                    source.set(random.nextInt(size), "s" + i);
+                }
+                break;
+            case 3:
+                int start = random.nextInt(size + 1);
+                source.remove(start, start + random.nextInt(size - start + 1));
+                break;
+            case 4:
+                FXCollections.sort(source, Comparator.reverseOrder());
+                break;
+            default:
+                source.addAll(random.nextInt(size + 1), List.of("m" + i, "n" + i));
+                break;
+            }
+            if (random.nextInt(4) == 0) {
+                publish();
+                assertEquals(source, publishedList.asUnmodifiableObservableList());
+            }
+        }
+        publish();
+        assertEquals(source, publishedList.asUnmodifiableObservableList());
+    }
+
+    private void publish() {
+        List<Runnable> tasks = new ArrayList<>(publications);
+        publications.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
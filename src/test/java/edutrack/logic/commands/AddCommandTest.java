@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.ReadOnlyUserPrefs;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
 import edutrack.model.tag.Tag;
 import edutrack.testutil.PersonBuilder;
 import javafx.collections.ObservableList;
@@ -202,6 +205,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(Map<Person, Person> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -212,6 +220,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Person> getFilteredPersonListComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasGroup(Group group) {
             throw new AssertionError("This method should not be called.");
@@ -268,7 +291,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortPersonList() {
+        public void setPersonListSortOrder(SortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortOrder getPersonListSortOrder() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -285,6 +313,36 @@ public class AddCommandTest {
         public boolean isPendingClearConfirmation() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
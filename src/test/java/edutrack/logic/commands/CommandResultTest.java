@@ -35,6 +35,12 @@ public class CommandResultTest {
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false)));
     }
 
+    @Test
+    public void withWarning() {
+        CommandResult commandResult = new CommandResult("feedback", false, true, false);
+        assertEquals(new CommandResult("feedback\nwarning", false, true, false), commandResult.withWarning("warning"));
+    }
+
     @Test
     public void hashcode() {
         CommandResult commandResult = new CommandResult("feedback");
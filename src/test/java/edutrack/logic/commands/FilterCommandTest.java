@@ -0,0 +1,88 @@
+package edutrack.logic.commands;
+
+import static edutrack.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.query.AndQuery;
+import edutrack.model.query.FieldQuery;
+import edutrack.model.query.GroupQuery;
+import edutrack.model.query.NotQuery;
+import edutrack.model.query.Query;
+import edutrack.model.query.TagQuery;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final Query FRIENDS = new TagQuery(new Tag("friends"));
+    private static final Query NOT_IN_CS2103T = new NotQuery(new GroupQuery(new Group("CS2103T")));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(FRIENDS);
+        FilterCommand filterSecondCommand = new FilterCommand(NOT_IN_CS2103T);
+
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+        assertTrue(filterFirstCommand.equals(new FilterCommand(new TagQuery(new Tag("friends")))));
+        assertFalse(filterFirstCommand.equals(1));
+        assertFalse(filterFirstCommand.equals(null));
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_throwsCommandException() {
+        Query query = new AndQuery(List.of(FRIENDS, new FieldQuery(FieldQuery.Field.NAME, "carl")));
+        assertCommandFailure(new FilterCommand(query), model, FilterCommand.MESSAGE_NO_MATCHES);
+    }
+
+    @Test
+    public void execute_compositeQuery_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FilterCommand command = new FilterCommand(new AndQuery(List.of(FRIENDS, NOT_IN_CS2103T)));
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFilter_filterUpdated() throws Exception {
+        new FilterCommand(new AndQuery(List.of(FRIENDS, NOT_IN_CS2103T))).execute(model);
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withGroup("CS2101").build();
+        model.setPerson(DANIEL, editedDaniel);
+        assertEquals(List.of(BENSON, editedDaniel), model.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags().build();
+        model.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, editedDaniel), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FilterCommand command = new FilterCommand(FRIENDS);
+        String expected = FilterCommand.class.getCanonicalName() + "{query=" + FRIENDS + "}";
+        assertEquals(expected, command.toString());
+    }
+}
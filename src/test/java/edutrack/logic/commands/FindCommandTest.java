@@ -3,6 +3,8 @@ package edutrack.logic.commands;
 import static edutrack.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
 import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static edutrack.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static edutrack.testutil.TypicalPersons.CARL;
 import static edutrack.testutil.TypicalPersons.ELLE;
 import static edutrack.testutil.TypicalPersons.FIONA;
@@ -13,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,11 +75,65 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_noMatches_keepsPreviousFilter() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        FindCommand command = new FindCommand(preparePredicate("Nobody"));
+        assertCommandFailure(command, model, FindCommand.MESSAGE_NO_MATCHES);
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_matchesOutsideCurrentFilter_listsAllMatches() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindCommand(predicate), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals_fuzzyName() {
+        FindCommand fuzzyCommand = new FindCommand(List.of("jonh"));
+
+        // same values -> returns true
+        assertTrue(fuzzyCommand.equals(new FindCommand(List.of("jonh"))));
+
+        // different keywords -> returns false
+        assertFalse(fuzzyCommand.equals(new FindCommand(List.of("john"))));
+
+        // exact name search -> returns false
+        assertFalse(fuzzyCommand.equals(new FindCommand(preparePredicate("jonh"))));
+    }
+
+    @Test
+    public void execute_fuzzyName_personsRankedByDistance() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(new FindCommand(List.of("kunze")), model, expectedMessage, model);
+        // "kunze" is 1 edit from Fiona's "kunz" but 2 from Carl's "kurz"; Carl comes first in the address book
+        assertEquals(Arrays.asList(FIONA, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyNameNoMatches_keepsPreviousFilter() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertCommandFailure(new FindCommand(List.of("zzzz")), model, FindCommand.MESSAGE_NO_MATCHES);
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_noMatchesAfterFuzzyName_keepsRanking() throws Exception {
+        new FindCommand(List.of("kunze")).execute(model);
+        assertCommandFailure(new FindCommand(preparePredicate("Nobody")), model, FindCommand.MESSAGE_NO_MATCHES);
+        assertEquals(Arrays.asList(FIONA, CARL), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", fuzzyNameKeywords=null}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -0,0 +1,35 @@
+package edutrack.logic.commands;
+
+import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChange() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
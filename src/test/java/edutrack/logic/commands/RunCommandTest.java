@@ -0,0 +1,111 @@
+package edutrack.logic.commands;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static edutrack.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static edutrack.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static edutrack.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static edutrack.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.AMY;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.model.AddressBook;
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+
+    @Test
+    public void execute_validScript_runsAllCommandsAsOneChange() throws Exception {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        Path script = writeScript("# start of term", ADD_AMY, "", "  delete 1  ");
+
+        CommandResult result = new RunCommand(script).execute(model);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script), result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(ALICE));
+
+        // a single undo reverts the whole script
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(original, model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingLine_discardsEarlierChanges() throws Exception {
+        Path script = writeScript(ADD_AMY, "delete 100");
+        assertCommandFailure(new RunCommand(script), model, String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                "delete 100", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingLineAfterFindAndSort_restoresPersonList() throws Exception {
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+        Path script = writeScript(SortCommand.COMMAND_WORD + " name desc", FindCommand.COMMAND_WORD + " Alice",
+                "delete 100");
+        assertThrows(CommandException.class, () -> new RunCommand(script).execute(model));
+        assertEquals(shownPersons, model.getFilteredPersonList());
+        assertNull(model.getPersonListSortOrder());
+        assertNull(model.getFilteredPersonListComparator());
+    }
+
+    @Test
+    public void execute_invalidLine_discardsEarlierChanges() throws Exception {
+        Path script = writeScript(ADD_AMY, UndoCommand.COMMAND_WORD);
+        assertCommandFailure(new RunCommand(script), model, String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                UndoCommand.COMMAND_WORD, String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, UndoCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new RunCommand(temporaryFolder.resolve("missing.txt"))
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirst = new RunCommand(Path.of("first.txt"));
+
+        assertTrue(runFirst.equals(runFirst));
+        assertTrue(runFirst.equals(new RunCommand(Path.of("first.txt"))));
+        assertFalse(runFirst.equals(1));
+        assertFalse(runFirst.equals(null));
+        assertFalse(runFirst.equals(new RunCommand(Path.of("second.txt"))));
+    }
+}
@@ -0,0 +1,72 @@
+package edutrack.logic.commands;
+
+import static edutrack.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("first", "second"));
+
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("first"))));
+        assertFalse(searchFirstCommand.equals(1));
+        assertFalse(searchFirstCommand.equals(null));
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_throwsCommandException() {
+        assertCommandFailure(new SearchCommand(List.of("nonexistent")), model, SearchCommand.MESSAGE_NO_MATCHES);
+    }
+
+    @Test
+    public void execute_multipleKeywords_personsMatchingAllFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        SearchCommand command = new SearchCommand(Arrays.asList("mei*", "example"));
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterSearch_filterUpdated() throws Exception {
+        new SearchCommand(List.of("help")).execute(model);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withNote("Needs help with proofs").build());
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(List.of("keyword"));
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
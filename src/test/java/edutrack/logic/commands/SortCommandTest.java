@@ -1,18 +1,26 @@
 package edutrack.logic.commands;
 
 import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static edutrack.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.model.Model;
 import edutrack.model.ModelManager;
 import edutrack.model.UserPrefs;
 import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
+import edutrack.model.person.SortOrder.Criterion;
+import edutrack.model.person.SortOrder.Key;
 import edutrack.testutil.PersonBuilder;
 
 /**
@@ -20,6 +28,8 @@ import edutrack.testutil.PersonBuilder;
  */
 public class SortCommandTest {
 
+    private static final SortOrder GROUPS_DESCENDING = new SortOrder(List.of(new Criterion(Key.GROUPS, true)));
+
     private Model model;
     private Model expectedModel;
 
@@ -32,50 +42,53 @@ public class SortCommandTest {
     @Test
     public void execute_emptyAddressBook_success() {
         Model emptyModel = new ModelManager();
-        assertCommandSuccess(new SortCommand(false), emptyModel, SortCommand.MESSAGE_SUCCESS, emptyModel);
+        assertCommandSuccess(new SortCommand(SortOrder.BY_NAME), emptyModel,
+                String.format(SortCommand.MESSAGE_SUCCESS, SortOrder.BY_NAME), emptyModel);
     }
 
     @Test
     public void execute_typicalAddressBook_success() {
-        assertCommandSuccess(new SortCommand(false), model, SortCommand.MESSAGE_SUCCESS, expectedModel);
-        expectedModel.sortPersonList();
-        assertEquals(model.getFilteredPersonList(), expectedModel.getFilteredPersonList());
+        expectedModel.setPersonListSortOrder(GROUPS_DESCENDING);
+        assertCommandSuccess(new SortCommand(GROUPS_DESCENDING), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, GROUPS_DESCENDING), expectedModel);
+        assertEquals(GROUPS_DESCENDING, model.getPersonListSortOrder());
     }
 
     @Test
-    public void execute_withParameters_throwsCommandException() {
-        assertThrows(CommandException.class, () -> new SortCommand(true).execute(model));
+    public void execute_filteredList_keepsFilter() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.setPersonListSortOrder(SortOrder.BY_NAME);
+        assertCommandSuccess(new SortCommand(SortOrder.BY_NAME), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, SortOrder.BY_NAME), expectedModel);
+        assertEquals(1, model.getFilteredPersonList().size());
     }
 
     @Test
-    public void execute_mixedCaseNames_sortedCorrectly() throws CommandException {
-        // Add persons with mixed case names
+    public void execute_mixedCaseNames_laterPersonsKeptSorted() {
         Person alice = new PersonBuilder().withName("alice").build();
         Person bob = new PersonBuilder().withName("BOB").build();
         Person charlie = new PersonBuilder().withName("Charlie").build();
 
         Model testModel = new ModelManager();
-        testModel.addPerson(charlie); // Add in reverse order to test sorting
-        testModel.addPerson(bob);
+        testModel.addPerson(charlie);
         testModel.addPerson(alice);
+        new SortCommand(SortOrder.BY_NAME).execute(testModel);
+        assertEquals(Arrays.asList(alice, charlie), testModel.getFilteredPersonList());
 
-        Model expectedModel = new ModelManager();
-        expectedModel.addPerson(alice);
-        expectedModel.addPerson(bob);
-        expectedModel.addPerson(charlie);
-        expectedModel.sortPersonList();
-
-        assertCommandSuccess(new SortCommand(false), testModel, SortCommand.MESSAGE_SUCCESS, expectedModel);
+        // persons added after sorting are inserted in order rather than appended
+        testModel.addPerson(bob);
+        assertEquals(Arrays.asList(alice, bob, charlie), testModel.getFilteredPersonList());
     }
 
     @Test
-    public void execute_duplicateNameDifferentCase_throwsDuplicatePersonException() {
-        Person aaronLowerCase = new PersonBuilder().withName("aaron").build();
-        Person aaronUpperCase = new PersonBuilder().withName("Aaron").build();
+    public void equals() {
+        SortCommand sortByName = new SortCommand(SortOrder.BY_NAME);
 
-        Model testModel = new ModelManager();
-        testModel.addPerson(aaronUpperCase);
-        assertThrows(edutrack.model.person.exceptions.DuplicatePersonException.class, (
-                ) -> testModel.addPerson(aaronLowerCase));
+        assertTrue(sortByName.equals(sortByName));
+        assertTrue(sortByName.equals(new SortCommand(new SortOrder(List.of(new Criterion(Key.NAME, false))))));
+        assertFalse(sortByName.equals(1));
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(new SortCommand(GROUPS_DESCENDING)));
     }
 }
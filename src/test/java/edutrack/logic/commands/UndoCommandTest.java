@@ -0,0 +1,42 @@
+package edutrack.logic.commands;
+
+import static edutrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static edutrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static edutrack.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static edutrack.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterDelete_restoresPersonAndShowsAll() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterClear_restoresAddressBook() {
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
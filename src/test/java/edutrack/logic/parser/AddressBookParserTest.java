@@ -19,13 +19,21 @@ import edutrack.logic.commands.DeleteCommand;
 import edutrack.logic.commands.EditCommand;
 import edutrack.logic.commands.EditCommand.EditPersonDescriptor;
 import edutrack.logic.commands.ExitCommand;
+import edutrack.logic.commands.FilterCommand;
 import edutrack.logic.commands.FindCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.SearchCommand;
 import edutrack.logic.commands.SortCommand;
 import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.group.Group;
 import edutrack.model.person.NameContainsKeywordsPredicate;
 import edutrack.model.person.Person;
+import edutrack.model.query.AndQuery;
+import edutrack.model.query.GroupQuery;
+import edutrack.model.query.NotQuery;
+import edutrack.model.query.TagQuery;
+import edutrack.model.tag.Tag;
 import edutrack.testutil.EditPersonDescriptorBuilder;
 import edutrack.testutil.PersonBuilder;
 import edutrack.testutil.PersonUtil;
@@ -77,6 +85,20 @@ public class AddressBookParserTest {
         assertEquals(expectedCommand, parser.parseCommand(input));
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo* bar");
+        assertEquals(new SearchCommand(Arrays.asList("foo*", "bar")), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command =
+                (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " t/friends NOT g/CS2101");
+        assertEquals(new FilterCommand(new AndQuery(List.of(new TagQuery(new Tag("friends")),
+                new NotQuery(new GroupQuery(new Group("CS2101")))))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
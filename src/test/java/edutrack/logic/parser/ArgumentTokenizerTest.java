@@ -136,6 +136,21 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix name = new Prefix("n/");
+        Prefix fuzzyName = new Prefix("n~/");
+        Prefix note = new Prefix("no/");
+        Prefix longNote = new Prefix("no/te/");
+        String argsString = "preamble n~/ fuzzy n/ exact no/te/ long no/ short n/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, note, name, longNote, fuzzyName);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, fuzzyName, "fuzzy");
+        assertArgumentPresent(argMultimap, name, "exact", "");
+        assertArgumentPresent(argMultimap, longNote, "long");
+        assertArgumentPresent(argMultimap, note, "short");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,93 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.logic.commands.FilterCommand;
+import edutrack.model.group.Group;
+import edutrack.model.query.AndQuery;
+import edutrack.model.query.FieldQuery;
+import edutrack.model.query.FieldQuery.Field;
+import edutrack.model.query.GroupQuery;
+import edutrack.model.query.NotQuery;
+import edutrack.model.query.OrQuery;
+import edutrack.model.query.Query;
+import edutrack.model.query.TagQuery;
+import edutrack.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private static final Query FRIENDS = new TagQuery(new Tag("friends"));
+    private static final Query CS2103T = new GroupQuery(new Group("CS2103T"));
+    private static final Query CS2101 = new GroupQuery(new Group("CS2101"));
+    private static final Query ALICE = new FieldQuery(Field.NAME, "alice");
+    private static final Query LATE = new FieldQuery(Field.NOTE, "late*");
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_singleCondition_returnsFilterCommand() {
+        assertParseSuccess(parser, "t/friends", new FilterCommand(FRIENDS));
+        assertParseSuccess(parser, " n/ alice ", new FilterCommand(ALICE));
+        assertParseSuccess(parser, "no/late*", new FilterCommand(LATE));
+        assertParseSuccess(parser, "p/9123", new FilterCommand(new FieldQuery(Field.PHONE, "9123")));
+        assertParseSuccess(parser, "e/a@b.com", new FilterCommand(new FieldQuery(Field.EMAIL, "a@b.com")));
+        assertParseSuccess(parser, "a/clementi", new FilterCommand(new FieldQuery(Field.ADDRESS, "clementi")));
+    }
+
+    @Test
+    public void parse_conditionWithSeveralValues_matchesAnyValue() {
+        assertParseSuccess(parser, "g/CS2103T CS2101", new FilterCommand(new OrQuery(List.of(CS2103T, CS2101))));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() {
+        // spaces and AND are conjunctions, and bind tighter than OR
+        assertParseSuccess(parser, "t/friends g/CS2103T or NOT n/alice",
+                new FilterCommand(new OrQuery(List.of(new AndQuery(List.of(FRIENDS, CS2103T)), new NotQuery(ALICE)))));
+        assertParseSuccess(parser, "t/friends AND g/CS2103T",
+                new FilterCommand(new AndQuery(List.of(FRIENDS, CS2103T))));
+
+        // parentheses group conditions
+        assertParseSuccess(parser, "t/friends AND (g/CS2103T OR no/late*)",
+                new FilterCommand(new AndQuery(List.of(FRIENDS, new OrQuery(List.of(CS2103T, LATE))))));
+        assertParseSuccess(parser, "NOT(t/friends)g/CS2101",
+                new FilterCommand(new AndQuery(List.of(new NotQuery(FRIENDS), CS2101))));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertParseFailure(parser, "alice", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "t/friends AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "OR t/friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "t/friends NOT", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "t/ AND g/CS2101", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/*", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "()", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unbalancedParentheses_throwsParseException() {
+        assertParseFailure(parser, "(t/friends", FilterCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "t/friends)", FilterCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    @Test
+    public void parse_invalidTagOrGroup_throwsParseException() {
+        assertParseFailure(parser, "t/friends! ", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "g/CS2103T g/CS#", Group.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -35,6 +35,11 @@ public class FindCommandParserTest {
         FindCommand expectedGroupCommand =
                 new FindCommand(new GroupNameContainsKeywordsPredicate(Arrays.asList("CS2103T")));
         assertParseSuccess(parser, "g/CS2103T", expectedGroupCommand);
+
+        // Fuzzy find by name
+        FindCommand expectedFuzzyCommand = new FindCommand(Arrays.asList("jonh", "smtih"));
+        assertParseSuccess(parser, "n~/jonh smtih", expectedFuzzyCommand);
+        assertParseSuccess(parser, "n~/ \n jonh \t smtih ", expectedFuzzyCommand);
     }
 
     @Test
@@ -45,6 +50,9 @@ public class FindCommandParserTest {
         // group + name
         assertParseFailure(parser, "g/CS2103T n/Alice", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
 
+        // name + fuzzy name
+        assertParseFailure(parser, "n/Alice n~/Alce", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+
     }
 
     @Test
@@ -54,6 +62,9 @@ public class FindCommandParserTest {
 
         // repeated group prefix
         assertParseFailure(parser, "g/CS2103T g/CS2101", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+
+        // repeated fuzzy name prefix
+        assertParseFailure(parser, "n~/Alce n~/Bbo", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
     }
 
     @Test
@@ -63,6 +74,9 @@ public class FindCommandParserTest {
 
         // missing group name
         assertParseFailure(parser, "g/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // missing fuzzy name keywords
+        assertParseFailure(parser, "n~/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
@@ -0,0 +1,27 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " scripts/new term.txt ", new RunCommand(Paths.get("scripts/new term.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "a\0b", String.format(RunCommandParser.MESSAGE_INVALID_PATH, "a\0b"));
+    }
+}
@@ -0,0 +1,37 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_wildcardOnly_throwsParseException() {
+        assertParseFailure(parser, "alice *",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand = new SearchCommand(Arrays.asList("ale*", "serangoon"));
+        assertParseSuccess(parser, "ale* serangoon", expectedSearchCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n ale* \n \t serangoon  \t", expectedSearchCommand);
+    }
+}
@@ -13,8 +13,10 @@ import edutrack.logic.commands.ExitCommand;
 import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.RedoCommand;
 import edutrack.logic.commands.StatsCommand;
 import edutrack.logic.commands.TagListCommand;
+import edutrack.logic.commands.UndoCommand;
 import edutrack.logic.parser.exceptions.ParseException;
 
 public class SingularCommandParserTest {
@@ -91,6 +93,17 @@ public class SingularCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse(StatsCommand.COMMAND_WORD + " 3"));
     }
 
+    @Test
+    public void parse_undoRedo_success() throws Exception {
+        assertTrue(parser.parse(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parse(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parse_undoExtraArgs_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(UndoCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parse_emptyInput_throwsParseExceptionWithUsageMessage() {
         ParseException e = assertThrows(ParseException.class, () -> parser.parse(""));
@@ -4,31 +4,42 @@ import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import edutrack.logic.commands.SortCommand;
+import edutrack.model.person.SortOrder;
+import edutrack.model.person.SortOrder.Criterion;
+import edutrack.model.person.SortOrder.Key;
 
 public class SortCommandParserTest {
 
     private SortCommandParser parser = new SortCommandParser();
 
     @Test
-    public void parse_emptyArg_returnsValidSortCommand() {
-        SortCommand expectedCommand = new SortCommand(false);
+    public void parse_emptyArg_returnsSortByName() {
+        SortCommand expectedCommand = new SortCommand(SortOrder.BY_NAME);
         assertParseSuccess(parser, "", expectedCommand);
+        assertParseSuccess(parser, "   ", expectedCommand);
     }
 
     @Test
-    public void parse_whitespaceArg_returnsValidSortCommand() {
-        // Whitespace should be trimmed and treated as empty argument
-        SortCommand expectedCommand = new SortCommand(false);
-        assertParseSuccess(parser, "   ", expectedCommand);
+    public void parse_keysWithDirections_returnsSortCommand() {
+        SortCommand expectedCommand = new SortCommand(new SortOrder(List.of(new Criterion(Key.GROUPS, true),
+                new Criterion(Key.NOTE, false), new Criterion(Key.EMAIL, false), new Criterion(Key.TAG, true))));
+        assertParseSuccess(parser, "groups desc note email ASC  Tag Desc", expectedCommand);
     }
 
     @Test
-    public void parse_nonEmptyArg_throwsParseException() {
-        // Any non-empty argument should be rejected with an error message
-        assertParseFailure(parser, "abc", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-            SortCommand.MESSAGE_INVALID_PARAMETERS));
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        // unknown key
+        assertParseFailure(parser, "phone", usage);
+        // direction without a key
+        assertParseFailure(parser, "desc", usage);
+        assertParseFailure(parser, "name asc desc", usage);
+        // repeated key
+        assertParseFailure(parser, "name email name desc", SortOrder.MESSAGE_DUPLICATE_KEY);
     }
 }
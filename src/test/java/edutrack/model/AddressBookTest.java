@@ -4,15 +4,20 @@ import static edutrack.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static edutrack.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
 import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -85,6 +90,123 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonsWithTag_afterPersonOperations_matchesPersonList() {
+        addressBook.resetData(getTypicalAddressBook());
+        Tag friends = new Tag("FRIENDS");
+        assertIndexMatchesPersonList(friends);
+
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        addressBook.setPerson(ALICE, aliceWithoutTags);
+        assertFalse(addressBook.getPersonsWithTag(friends).contains(aliceWithoutTags));
+        assertIndexMatchesPersonList(friends);
+
+        addressBook.removePerson(BENSON);
+        assertFalse(addressBook.getPersonsWithTag(friends).contains(BENSON));
+        assertIndexMatchesPersonList(friends);
+
+        addressBook.addPerson(BENSON);
+        assertTrue(addressBook.getPersonsWithTag(friends).contains(BENSON));
+        assertIndexMatchesPersonList(friends);
+    }
+
+    @Test
+    public void getPersonsInGroup_afterPersonOperations_matchesPersonList() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group group = new Group("cs2103t");
+        assertTrue(addressBook.getPersonsInGroup(group).contains(ALICE));
+        assertIndexMatchesPersonList(group);
+
+        Person editedAlice = new PersonBuilder(ALICE).withGroup("CS2101").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(addressBook.getPersonsInGroup(group).contains(editedAlice));
+        assertTrue(addressBook.getPersonsInGroup(new Group("CS2101")).contains(editedAlice));
+        assertIndexMatchesPersonList(group);
+        assertIndexMatchesPersonList(new Group("CS2101"));
+    }
+
+    @Test
+    public void getPersonsWithTag_failedOperation_indexUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person bensonRenamedAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.setPerson(BENSON, bensonRenamedAlice));
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithTag(new Tag("friends")));
+    }
+
+    @Test
+    public void setPersons_replacements_updatesIndexes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Tag friends = new Tag("friends");
+        Person aliceWithoutTags = new PersonBuilder(ALICE).withTags().build();
+        Person bensonWithoutTags = new PersonBuilder(BENSON).withTags().build();
+
+        addressBook.setPersons(Map.of(ALICE, aliceWithoutTags, BENSON, bensonWithoutTags));
+
+        assertTrue(addressBook.hasPerson(aliceWithoutTags));
+        assertFalse(addressBook.getPersonsWithTag(friends).contains(aliceWithoutTags));
+        assertFalse(addressBook.getPersonsWithTag(friends).contains(bensonWithoutTags));
+        assertIndexMatchesPersonList(friends);
+        assertIndexMatchesPersonList(new Tag("owesMoney"));
+    }
+
+    @Test
+    public void getSnapshot_afterOperations_matchesContents() {
+        assertEquals(AddressBookSnapshot.EMPTY, addressBook.getSnapshot());
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookSnapshot typicalSnapshot = addressBook.getSnapshot();
+        assertEquals(AddressBookSnapshot.copyOf(addressBook), typicalSnapshot);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(new PersonBuilder().withName("New Student").withGroup("CS9999").build());
+        addressBook.addTag(new Tag("newTag"));
+        List<Person> reversedPersons = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversedPersons);
+        addressBook.setPersons(reversedPersons);
+        assertEquals(AddressBookSnapshot.copyOf(addressBook), addressBook.getSnapshot());
+
+        // earlier snapshots keep the contents they were published with
+        assertEquals(AddressBookSnapshot.copyOf(getTypicalAddressBook()), typicalSnapshot);
+        assertTrue(typicalSnapshot.getPersonList().contains(BENSON));
+    }
+
+    @Test
+    public void getSnapshot_smallChangesOfLargeList_matchesContents() {
+        for (int i = 0; i < 50; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        AddressBookSnapshot before = addressBook.getSnapshot();
+
+        Person student = addressBook.getPersonList().get(20);
+        addressBook.setPerson(student, new PersonBuilder(student).withTags(VALID_TAG_HUSBAND).build());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.addPerson(ALICE);
+        assertEquals(AddressBookSnapshot.copyOf(addressBook), addressBook.getSnapshot());
+        assertEquals(50, before.getPersonList().size());
+        assertEquals(student, before.getPersonList().get(20));
+    }
+
+    @Test
+    public void getPersonsWithTag_modifySet_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                addressBook.getPersonsWithTag(new Tag("friends")).clear());
+    }
+
+    private void assertIndexMatchesPersonList(Tag tag) {
+        Set<Person> expected = addressBook.getPersonList().stream()
+                .filter(person -> person.getTags().contains(tag))
+                .collect(Collectors.toSet());
+        assertEquals(expected, addressBook.getPersonsWithTag(tag));
+    }
+
+    private void assertIndexMatchesPersonList(Group group) {
+        Set<Person> expected = new AddressBookStub(addressBook.getPersonList()).getPersonsInGroup(group);
+        assertEquals(expected, addressBook.getPersonsInGroup(group));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
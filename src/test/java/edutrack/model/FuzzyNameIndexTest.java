@@ -0,0 +1,124 @@
+package edutrack.model;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.ELLE;
+import static edutrack.testutil.TypicalPersons.FIONA;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.person.Person;
+import edutrack.testutil.PersonBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void getMaxDistance_growsWithKeywordLength() {
+        assertEquals(0, FuzzyNameIndex.getMaxDistance("al"));
+        assertEquals(1, FuzzyNameIndex.getMaxDistance("ali"));
+        assertEquals(1, FuzzyNameIndex.getMaxDistance("jonh"));
+        assertEquals(2, FuzzyNameIndex.getMaxDistance("kurtz"));
+    }
+
+    @Test
+    public void search_misspelledKeyword_returnsClosestDistances() {
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1), search("MEIR"));
+        assertEquals(Map.of(ELLE, 1), search("meyr"));
+        assertEquals(Map.of(CARL, 1, FIONA, 2), search("kurtz"));
+        assertEquals(Map.of(), search("zzzz"));
+    }
+
+    @Test
+    public void search_multipleKeywords_keepsSmallestDistance() {
+        assertEquals(Map.of(CARL, 1, FIONA, 0), search("kurtz", "kunz"));
+    }
+
+    @Test
+    public void search_variousKeywords_agreesWithScan() {
+        List<String> keywords = List.of("al", "ali", "alce", "mier", "meyer", "kuns", "george", "gorge", "best",
+                "bensn", "paulina", "danial", "fionna", "zzzzz");
+        for (String keyword : keywords) {
+            assertEquals(scan(addressBook.getPersonList(), keyword), search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void search_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> search(" "));
+        assertThrows(IllegalArgumentException.class, () -> search("carl kurz"));
+    }
+
+    @Test
+    public void search_afterPersonOperations_reflectsChanges() {
+        addressBook.addPerson(HOON);
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1, HOON, 1), search("meir"));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Map.of(DANIEL, 1, HOON, 1), search("meir"));
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        addressBook.setPerson(DANIEL, editedDaniel);
+        assertEquals(Map.of(HOON, 1), search("meir"));
+        assertEquals(Map.of(editedDaniel, 1), search("tam"));
+
+        // removing most persons leaves mostly unused words, which rebuilds the tree
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.stream().filter(person -> !person.equals(HOON)).forEach(addressBook::removePerson);
+        assertEquals(Map.of(HOON, 1), search("meir"));
+        assertEquals(Map.of(), search("tam"));
+
+        addressBook.addPerson(BENSON);
+        assertEquals(Map.of(BENSON, 1, HOON, 1), search("meir"));
+    }
+
+    @Test
+    public void match_afterPersonOperations_testsAndRanksCurrentData() {
+        FuzzyNameIndex.Matches matches = addressBook.getFuzzyNameIndex().match(List.of("kurtz"));
+        assertFalse(matches.isEmpty());
+        assertTrue(matches.test(FIONA));
+        assertTrue(matches.byDistance().compare(CARL, FIONA) < 0);
+
+        Person editedFiona = new PersonBuilder(FIONA).withName("Fiona Kurtz").build();
+        addressBook.setPerson(FIONA, editedFiona);
+        assertTrue(matches.test(editedFiona));
+        assertTrue(matches.byDistance().compare(editedFiona, CARL) < 0);
+
+        assertTrue(addressBook.getFuzzyNameIndex().match(List.of("zzzz")).isEmpty());
+    }
+
+    private Map<Person, Integer> search(String... keywords) {
+        return addressBook.getFuzzyNameIndex().search(List.of(keywords));
+    }
+
+    /**
+     * Returns the persons approximately matching {@code keyword}, found by comparing it with every word of every name.
+     */
+    private static Map<Person, Integer> scan(List<Person> persons, String keyword) {
+        String foldedKeyword = StringUtil.foldCase(keyword);
+        Map<Person, Integer> distances = new HashMap<>();
+        for (Person person : persons) {
+            for (String word : StringUtil.foldWords(person.getName().fullName)) {
+                int distance = StringUtil.editDistance(foldedKeyword, word);
+                if (distance <= FuzzyNameIndex.getMaxDistance(foldedKeyword)) {
+                    distances.merge(person, distance, Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -4,19 +4,25 @@ import static edutrack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
 import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.Person;
+import edutrack.model.person.SortOrder;
 import edutrack.testutil.AddressBookBuilder;
+import edutrack.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,48 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_withComparator_ordersFilteredPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Comparator<Person> reverseOrder = Comparator.comparing((Person person) -> person.getName().fullName).reversed();
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, reverseOrder);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getFilteredPersonListComparator().compare(ALICE, BENSON));
+
+        // updating the filter alone restores the order of the address book
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertNull(modelManager.getFilteredPersonListComparator());
+    }
+
+    @Test
+    public void setPersonListSortOrder_keepsAddedAndEditedPersonsInOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.setPersonListSortOrder(SortOrder.BY_NAME);
+        assertEquals(SortOrder.BY_NAME, modelManager.getPersonListSortOrder());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zed Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), modelManager.getFilteredPersonList());
+
+        // a comparator given with a filter decides first, and the sort order breaks its ties
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person person) -> person.getName().fullName.startsWith("Zed")));
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person person) -> !person.getName().fullName.startsWith("Zed")));
+        assertEquals(Arrays.asList(editedAlice, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.setPersonListSortOrder(null);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(BENSON, editedAlice, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
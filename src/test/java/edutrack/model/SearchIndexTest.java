@@ -0,0 +1,150 @@
+package edutrack.model;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.ELLE;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+import javafx.collections.ObservableList;
+
+public class SearchIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void search_substring_matchesWordsContainingTerm() {
+        assertEquals(Set.of(BENSON, DANIEL), search("EIER"));
+        assertEquals(Set.of(ALICE), search("help")); // note
+        assertEquals(Set.of(BENSON), search("9876")); // phone
+        assertEquals(Set.of(ELLE), search("werner@example.com")); // email
+    }
+
+    @Test
+    public void search_prefix_matchesWordsStartingWithTerm() {
+        assertEquals(Set.of(BENSON, DANIEL), search("mei*"));
+        assertEquals(Collections.emptySet(), search("eier*"));
+    }
+
+    @Test
+    public void search_multipleTerms_matchesAllTerms() {
+        assertEquals(Set.of(BENSON), search("meier", "9876"));
+        assertEquals(Collections.emptySet(), search("meier", "nonexistent"));
+    }
+
+    @Test
+    public void search_variousTerms_agreesWithScan() {
+        List<String> terms = new ArrayList<>(List.of("a", "e", "li", "th", "st", "street", "ave", "example",
+                "@", "#0", "9", "94", "help", "cs2", "x", "zz"));
+        terms.addAll(terms.stream().map(term -> term + "*").collect(Collectors.toList()));
+        for (String term : terms) {
+            assertEquals(scan(addressBook.getPersonList(), term), search(term), term);
+        }
+    }
+
+    @Test
+    public void search_invalidTerm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> search("*"));
+        assertThrows(IllegalArgumentException.class, () -> search(" "));
+        assertThrows(IllegalArgumentException.class, () -> search("alice pauline"));
+    }
+
+    @Test
+    public void search_afterPersonOperations_reflectsChanges() {
+        addressBook.addPerson(HOON);
+        assertEquals(Set.of(BENSON, DANIEL, HOON), search("meier"));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Set.of(DANIEL, HOON), search("meier"));
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        addressBook.setPerson(DANIEL, editedDaniel);
+        assertEquals(Set.of(HOON), search("meier"));
+        assertEquals(Set.of(editedDaniel), search("tan"));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptySet(), search("meier"));
+    }
+
+    @Test
+    public void asPredicate_afterPersonOperations_testsCurrentData() {
+        Predicate<Person> predicate = addressBook.getSearchIndex().asPredicate(List.of("meier"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(HOON));
+
+        addressBook.addPerson(HOON);
+        assertTrue(predicate.test(HOON));
+    }
+
+    @Test
+    public void asPredicate_givenMatches_usedUntilIndexChanges() {
+        SearchIndex searchIndex = addressBook.getSearchIndex();
+        // the given matches are trusted as the result of searching the current index
+        Predicate<Person> predicate = searchIndex.asPredicate(List.of("meier"), Set.of(ALICE));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        addressBook.addPerson(HOON);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(HOON));
+    }
+
+    @Test
+    public void readOnlyAddressBook_defaultSearchIndex_indexesPersonList() {
+        ReadOnlyAddressBook readOnly = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return addressBook.getPersonList();
+            }
+
+            @Override
+            public ObservableList<Group> getGroupList() {
+                return addressBook.getGroupList();
+            }
+
+            @Override
+            public ObservableList<Tag> getTagList() {
+                return addressBook.getTagList();
+            }
+        };
+        assertEquals(search("mei*", "9876"), readOnly.getSearchIndex().search(List.of("mei*", "9876")));
+    }
+
+    private Set<Person> search(String... terms) {
+        return addressBook.getSearchIndex().search(List.of(terms));
+    }
+
+    /**
+     * Returns the persons matching {@code term}, found by folding the details of every person.
+     */
+    private static Set<Person> scan(List<Person> persons, String term) {
+        boolean isPrefix = term.endsWith("*");
+        String query = StringUtil.foldCase(isPrefix ? term.substring(0, term.length() - 1) : term);
+        return persons.stream()
+                .filter(person -> List.of(person.getName().fullName, person.getPhone().value,
+                                person.getEmail().value, person.getAddress().value, person.getNote().value).stream()
+                        .flatMap(field -> StringUtil.foldWords(field).stream())
+                        .anyMatch(word -> isPrefix ? word.startsWith(query) : word.contains(query)))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,94 @@
+package edutrack.model;
+
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.testutil.PersonBuilder;
+
+public class StatsAggregatorTest {
+
+    private static final Group CS2103T = new Group("CS2103T");
+    private static final Group CS2101 = new Group("CS2101");
+    private static final Group CS9999 = new Group("CS9999");
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void getStatistics_persons_countsTagsTotalAndPerGroup() {
+        StatsAggregator aggregator = new StatsAggregator(List.of(ALICE, BENSON, DANIEL));
+        Statistics statistics = aggregator.getStatistics(List.of(CS2101, CS2103T, CS9999));
+
+        assertEquals(new Statistics.Counts(3, Map.of("friends", 3, "owesmoney", 1)), statistics.getTotal());
+        assertEquals(List.of(CS2101, CS2103T, CS9999), List.copyOf(statistics.getCountsByGroup().keySet()));
+        assertEquals(new Statistics.Counts(2, Map.of("friends", 2, "owesmoney", 1)),
+                statistics.getCountsByGroup().get(CS2101));
+        assertEquals(new Statistics.Counts(2, Map.of("friends", 2)), statistics.getCountsByGroup().get(CS2103T));
+        assertEquals(Statistics.Counts.EMPTY, statistics.getCountsByGroup().get(CS9999));
+    }
+
+    @Test
+    public void getStatistics_tagsDifferingInCase_countedTogether() {
+        Person shouting = new PersonBuilder().withName("Shouting").withTags("FRIENDS").build();
+        StatsAggregator aggregator = new StatsAggregator(List.of(ALICE, shouting));
+        assertEquals(Map.of("friends", 2), aggregator.getStatistics(List.of()).getTotal().getTagCounts());
+    }
+
+    @Test
+    public void getStatistics_afterRemovingPersons_dropsUnusedTags() {
+        StatsAggregator aggregator = new StatsAggregator(List.of(ALICE, BENSON));
+        aggregator.remove(BENSON);
+        assertEquals(new Statistics.Counts(1, Map.of("friends", 1)), aggregator.getStatistics(List.of()).getTotal());
+
+        aggregator.remove(ALICE);
+        assertEquals(Statistics.Counts.EMPTY, aggregator.getStatistics(List.of()).getTotal());
+        assertEquals(Statistics.Counts.EMPTY, aggregator.getStatistics(List.of(CS2103T)).getCountsByGroup()
+                .get(CS2103T));
+    }
+
+    @Test
+    public void getStatistics_unchangedCounters_reusesSnapshots() {
+        StatsAggregator aggregator = new StatsAggregator(List.of(ALICE, BENSON));
+        Statistics before = aggregator.getStatistics(List.of(CS2101, CS2103T));
+
+        aggregator.add(DANIEL);
+        aggregator.remove(BENSON);
+        Statistics after = aggregator.getStatistics(List.of(CS2101, CS2103T));
+        assertEquals(new Statistics.Counts(1, Map.of("friends", 1)), after.getCountsByGroup().get(CS2101));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        aggregator.remove(ALICE);
+        aggregator.add(editedAlice);
+        Statistics afterEdit = aggregator.getStatistics(List.of(CS2101, CS2103T));
+        assertSame(after.getCountsByGroup().get(CS2101), afterEdit.getCountsByGroup().get(CS2101));
+        assertEquals(new Statistics.Counts(2, Map.of("friends", 1, "owesmoney", 1)),
+                afterEdit.getCountsByGroup().get(CS2103T));
+        assertEquals(before.getCountsByGroup().keySet(), afterEdit.getCountsByGroup().keySet());
+    }
+
+    @Test
+    public void addressBookStatistics_afterPersonOperations_agreesWithRecount() {
+        assertEquals(recount(addressBook), addressBook.getStatistics());
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("needsHelp").withGroup("CS2103T").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(new PersonBuilder().withName("New Student").withTags("friends", "NEEDSHELP")
+                .withGroup("CS9999").build());
+        addressBook.setPersons(List.of(DANIEL));
+        assertEquals(recount(addressBook), addressBook.getStatistics());
+    }
+
+    private static Statistics recount(ReadOnlyAddressBook addressBook) {
+        return new StatsAggregator(addressBook.getPersonList()).getStatistics(addressBook.getGroupList());
+    }
+}
@@ -0,0 +1,165 @@
+package edutrack.model;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.AMY;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBook, 2);
+
+    @Test
+    public void constructor_negativeMaxDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(addressBook, -1));
+    }
+
+    @Test
+    public void canUndo_noChanges_returnsFalse() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void undoRedo_committedChanges_restoresStates() {
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook afterAdd = new AddressBook(addressBook);
+        Person editedBenson = new PersonBuilder(BENSON).withGroup("CS9999").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.addGroup(new Group("CS9999"));
+        versionedAddressBook.commit();
+        AddressBook afterEdit = new AddressBook(addressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(afterAdd, addressBook);
+        assertTrue(addressBook.getPersonsInGroup(new Group("CS9999")).isEmpty());
+        versionedAddressBook.undo();
+        assertEquals(original, addressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, addressBook);
+        assertEquals(List.of(editedBenson), List.copyOf(addressBook.getPersonsInGroup(new Group("CS9999"))));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void canUndo_uncommittedChanges_doesNotCommitThem() {
+        addressBook.removePerson(ALICE);
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        // had the checks committed the removal, the rollback would keep it
+        versionedAddressBook.rollback();
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThemAsOneChange() {
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        versionedAddressBook.undo();
+        assertEquals(original, addressBook);
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_restoresCurrentState() {
+        addressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        AddressBook afterRemove = new AddressBook(addressBook);
+
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(AMY);
+        versionedAddressBook.rollback();
+        assertEquals(afterRemove, addressBook);
+
+        // the rollback is not a change of its own, and leaves the earlier states
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_onePersonReplaced_sharesRestOfSnapshot() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).build());
+        }
+        addressBook.setPersons(persons);
+        versionedAddressBook.commit();
+        AddressBookSnapshot before = addressBook.getSnapshot();
+
+        Person student = persons.get(123);
+        addressBook.setPersons(Map.of(student, new PersonBuilder(student).withGroup("CS9999").build()));
+        versionedAddressBook.commit();
+        AddressBookSnapshot after = addressBook.getSnapshot();
+
+        // only the path to the replaced person is new, which is at most as long as the balanced tree is high
+        int height = Integer.SIZE - Integer.numberOfLeadingZeros(persons.size());
+        assertTrue(after.getPersons().countUnsharedNodes(before.getPersons()) <= height);
+        assertSame(before.getGroups(), after.getGroups());
+        assertSame(before.getTags(), after.getTags());
+
+        versionedAddressBook.undo();
+        assertEquals(before, addressBook.getSnapshot());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() {
+        addressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.canRedo());
+
+        addressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_forgetsOldestStates() {
+        addressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        addressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        addressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertTrue(addressBook.hasPerson(BENSON));
+
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.canUndo());
+        versionedAddressBook.setMaxDepth(0);
+        assertFalse(versionedAddressBook.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> versionedAddressBook.setMaxDepth(-1));
+    }
+}
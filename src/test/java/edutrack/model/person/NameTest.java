@@ -1,9 +1,13 @@
 package edutrack.model.person;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -19,6 +23,13 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void getFoldedWords() {
+        Name name = new Name("David Roger  JACKSON");
+        assertEquals(List.of("david", "roger", "jackson"), name.getFoldedWords());
+        assertSame(name.getFoldedWords(), name.getFoldedWords()); // computed only once
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -69,4 +80,13 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_sameNameDifferentCase_equalHashCodes() {
+        Name name = new Name("Valid Name");
+        Name differentCaseName = new Name("VALID name");
+
+        assertTrue(name.equals(differentCaseName));
+        assertEquals(name.hashCode(), differentCaseName.hashCode());
+    }
 }
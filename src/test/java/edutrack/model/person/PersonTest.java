@@ -10,10 +10,15 @@ import static edutrack.testutil.TypicalPersons.ALICE;
 import static edutrack.testutil.TypicalPersons.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import edutrack.model.tag.Tag;
 import edutrack.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +29,28 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getTags_tagsInDifferentCase_equalToHashSetAndOtherPerson() {
+        Person person = new PersonBuilder().withTags("friends", "owesMoney").build();
+        Person otherCase = new PersonBuilder().withTags("FRIENDS", "owesMoney").build();
+        Set<Tag> expected = new HashSet<>(Set.of(new Tag("friends"), new Tag("owesMoney")));
+
+        assertEquals(expected, person.getTags());
+        assertEquals(person.getTags(), expected);
+        assertEquals(expected.hashCode(), person.getTags().hashCode());
+        assertTrue(person.getTags().contains(new Tag("Friends")));
+        assertEquals(person.getTags(), otherCase.getTags());
+        assertEquals(person, otherCase);
+    }
+
+    @Test
+    public void getTags_sameTagInstances_sharesCanonicalInstance() {
+        Person first = new PersonBuilder().withTags("sharedTag").build();
+        Person second = new PersonBuilder().withTags("sharedTag").build();
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+        assertSame(Tag.INTERNER.intern(new Tag("sharedTag")), first.getTags().iterator().next());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
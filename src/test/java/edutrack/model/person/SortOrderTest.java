@@ -0,0 +1,111 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.person.SortOrder.Criterion;
+import edutrack.model.person.SortOrder.Key;
+import edutrack.testutil.PersonBuilder;
+
+public class SortOrderTest {
+
+    private static List<Person> sort(SortOrder sortOrder, Person... persons) {
+        List<Person> sorted = new ArrayList<>(Arrays.asList(persons));
+        Collections.shuffle(sorted);
+        sorted.sort(sortOrder);
+        return sorted;
+    }
+
+    private static SortOrder by(Key key, boolean isDescending) {
+        return new SortOrder(List.of(new Criterion(key, isDescending)));
+    }
+
+    @Test
+    public void constructor_invalidCriteria_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new SortOrder(null));
+        assertThrows(IllegalArgumentException.class, () -> new SortOrder(List.of()));
+        assertThrows(IllegalArgumentException.class, SortOrder.MESSAGE_DUPLICATE_KEY, () -> new SortOrder(
+                List.of(new Criterion(Key.EMAIL, false), new Criterion(Key.EMAIL, true))));
+    }
+
+    @Test
+    public void compare_name_usesLocaleCollation() {
+        Person eve = new PersonBuilder().withName("Eve").build();
+        Person elodie = new PersonBuilder().withName("élodie").build();
+        Person zoe = new PersonBuilder().withName("zoe").build();
+
+        // accented and lower case names are ordered among the others, not after them
+        assertEquals(Arrays.asList(elodie, eve, zoe), sort(SortOrder.BY_NAME, zoe, eve, elodie));
+        assertEquals(Arrays.asList(zoe, eve, elodie), sort(by(Key.NAME, true), zoe, eve, elodie));
+    }
+
+    @Test
+    public void compare_singleKey_tiesBrokenByName() {
+        assertEquals(Arrays.asList(ALICE, DANIEL, CARL, BENSON),
+                sort(by(Key.EMAIL, false), ALICE, BENSON, CARL, DANIEL));
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON, CARL),
+                sort(by(Key.GROUPS, true), ALICE, BENSON, CARL, DANIEL));
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON, DANIEL),
+                sort(by(Key.GROUPS, false), ALICE, BENSON, CARL, DANIEL));
+        assertEquals(Arrays.asList(CARL, DANIEL, ALICE, BENSON),
+                sort(by(Key.NOTE, false), ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void compare_tag_byFirstTagWithUntaggedLast() {
+        Person taggedLate = new PersonBuilder().withName("Zack").withTags("zeta", "Alpha").build();
+        Person taggedBeta = new PersonBuilder().withName("Amy").withTags("beta").build();
+        Person untagged = new PersonBuilder().withName("Bob").withTags().build();
+
+        assertEquals(Arrays.asList(taggedLate, taggedBeta, untagged),
+                sort(by(Key.TAG, false), untagged, taggedBeta, taggedLate));
+    }
+
+    @Test
+    public void compare_multipleKeys_laterKeysBreakTies() {
+        SortOrder sortOrder = new SortOrder(List.of(new Criterion(Key.NOTE, true), new Criterion(Key.GROUPS, true),
+                new Criterion(Key.NAME, true)));
+        assertEquals(Arrays.asList(BENSON, ALICE, DANIEL, CARL), sort(sortOrder, ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Key.GROUPS, Key.fromKeyword("GroUps"));
+        assertNull(Key.fromKeyword("phone"));
+    }
+
+    @Test
+    public void equals() {
+        SortOrder sortOrder = new SortOrder(List.of(new Criterion(Key.EMAIL, false), new Criterion(Key.TAG, true)));
+
+        assertTrue(sortOrder.equals(sortOrder));
+        assertTrue(sortOrder.equals(
+                new SortOrder(List.of(new Criterion(Key.EMAIL, false), new Criterion(Key.TAG, true)))));
+        assertFalse(sortOrder.equals(null));
+        assertFalse(sortOrder.equals(
+                new SortOrder(List.of(new Criterion(Key.TAG, true), new Criterion(Key.EMAIL, false)))));
+        assertFalse(sortOrder.equals(
+                new SortOrder(List.of(new Criterion(Key.EMAIL, false), new Criterion(Key.TAG, false)))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("name asc", SortOrder.BY_NAME.toString());
+        assertEquals("groups desc, note asc",
+                new SortOrder(List.of(new Criterion(Key.GROUPS, true), new Criterion(Key.NOTE, false))).toString());
+    }
+}
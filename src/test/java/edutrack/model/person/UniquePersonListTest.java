@@ -5,20 +5,27 @@ import static edutrack.logic.commands.CommandTestUtil.VALID_GROUP_CS2101;
 import static edutrack.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
 import static edutrack.testutil.TypicalPersons.BOB;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.getTypicalPersons;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import edutrack.model.person.exceptions.DuplicatePersonException;
 import edutrack.model.person.exceptions.PersonNotFoundException;
 import edutrack.testutil.PersonBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniquePersonListTest {
 
@@ -171,54 +178,125 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+    public void setPersons_replacementsOfMostOfList_replacesListWithSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(BOB).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(CARL, editedCarl);
+        replacements.put(ALICE, editedAlice);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.setPersons(replacements);
+
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
     }
 
     @Test
-    public void toStringMethod() {
-        assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
+    public void setPersons_replacementsOfFewPersons_replacesOnlyThosePersons() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> replaced = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replaced.addAll(change.getRemoved());
+                replaced.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.setPersons(Map.of(BENSON, editedBenson));
+
+        assertEquals(Arrays.asList(BENSON, editedBenson), replaced);
+        assertEquals(editedBenson, uniquePersonList.asUnmodifiableObservableList().get(1));
+        assertTrue(uniquePersonList.contains(editedBenson));
     }
 
     @Test
-    public void sortByName_emptySortedList_success() {
-        uniquePersonList.sortByName();
-        assertEquals(0, uniquePersonList.asUnmodifiableObservableList().size());
+    public void setPersons_replacementsSwappingIdentities_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(BOB, ALICE);
+        uniquePersonList.setPersons(replacements);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
-    public void sortByName_mixedCaseNames_sortsCorrectly() {
-        Person alice = new PersonBuilder().withName("alice").build();
-        Person bob = new PersonBuilder().withName("BOB").build();
-        Person charlie = new PersonBuilder().withName("Charlie").build();
+    public void setPersons_replacementTargetNotInList_throwsPersonNotFoundExceptionAndKeepsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(CARL, BOB);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_replacementsWithNonUniqueIdentity_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(CARL, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
 
-        // Add in unsorted order
-        uniquePersonList.add(charlie);
-        uniquePersonList.add(bob);
-        uniquePersonList.add(alice);
+    @Test
+    public void restorePersons_fewDifferences_onlyChangesDifferingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.restorePersons(Arrays.asList(ALICE, editedBenson, CARL, BOB));
+
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(BENSON, CARL), removed);
+        assertEquals(List.of(editedBenson, CARL, BOB), added);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void restorePersons_sameIdentityMoved_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.restorePersons(Arrays.asList(CARL, BENSON));
+        assertEquals(Arrays.asList(CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void restorePersons_listWithDuplicatePersons_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.restorePersons(
+                Arrays.asList(ALICE, BENSON, editedBenson)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.restorePersons(
+                Arrays.asList(ALICE, BOB, BOB)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
 
-        uniquePersonList.sortByName();
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+    }
 
-        // Verify sorted order
-        assertEquals("alice",
-            uniquePersonList.asUnmodifiableObservableList()
-                .get(0)
-                .getName()
-                .toString()
-                .toLowerCase());
-        assertEquals("bob",
-            uniquePersonList.asUnmodifiableObservableList()
-                    .get(1)
-                    .getName()
-                    .toString()
-                    .toLowerCase());
-        assertEquals("charlie",
-            uniquePersonList.asUnmodifiableObservableList()
-                    .get(2)
-                    .getName()
-                    .toString()
-                    .toLowerCase());
+    @Test
+    public void toStringMethod() {
+        assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
 
     @Test
@@ -229,4 +307,77 @@ public class UniquePersonListTest {
         uniquePersonList.add(aaronUpperCase);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aaronLowerCase));
     }
+
+    @Test
+    public void contains_personWithSameNameDifferentCase_returnsTrue() {
+        uniquePersonList.add(new PersonBuilder().withName("Aaron").build());
+        assertTrue(uniquePersonList.contains(new PersonBuilder().withName("AARON").build()));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the old identity is free to be reused
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_listWithSameNameDifferentCase_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(new PersonBuilder().withName("aaron").build(),
+                new PersonBuilder().withName("Aaron").build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesMovedPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BENSON, BENSON);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of(editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterRestore_replacesRestoredPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.setPerson(ALICE, ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.restorePersons(Arrays.asList(ALICE, editedBenson, CARL));
+        uniquePersonList.setPerson(editedBenson, BENSON);
+        uniquePersonList.restorePersons(Arrays.asList(BOB, ALICE, BENSON, CARL));
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(BOB, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
 }
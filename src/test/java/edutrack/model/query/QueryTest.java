@@ -0,0 +1,142 @@
+package edutrack.model.query;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.ELLE;
+import static edutrack.testutil.TypicalPersons.FIONA;
+import static edutrack.testutil.TypicalPersons.GEORGE;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.query.FieldQuery.Field;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private static final Query FRIENDS = new TagQuery(new Tag("friends"));
+    private static final Query OWES_MONEY = new TagQuery(new Tag("owesMoney"));
+    private static final Query CS2103T = new GroupQuery(new Group("CS2103T"));
+    private static final Query CS2101 = new GroupQuery(new Group("CS2101"));
+    private static final Query MEIER = new FieldQuery(Field.NAME, "MEIER");
+    private static final Query STREET = new FieldQuery(Field.ADDRESS, "street");
+    private static final Query PHONE_948 = new FieldQuery(Field.PHONE, "948*");
+    private static final Query NOTE_HELP = new FieldQuery(Field.NOTE, "help");
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void fieldQuery_test_matchesWholeWordsOfField() {
+        assertTrue(MEIER.test(BENSON));
+        assertFalse(new FieldQuery(Field.NAME, "mei").test(BENSON));
+        assertTrue(new FieldQuery(Field.NAME, "mei*").test(BENSON));
+        assertTrue(STREET.test(CARL));
+        assertFalse(new FieldQuery(Field.NAME, "street").test(CARL));
+        assertTrue(new FieldQuery(Field.EMAIL, "ALICE@example.com").test(ALICE));
+        assertTrue(NOTE_HELP.test(ALICE));
+    }
+
+    @Test
+    public void fieldQuery_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(Field.NAME, "*"));
+        assertThrows(IllegalArgumentException.class, () -> new FieldQuery(Field.NAME, "alice pauline"));
+    }
+
+    @Test
+    public void compositeQuery_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndQuery(List.of(FRIENDS)));
+        assertThrows(IllegalArgumentException.class, () -> new OrQuery(List.of()));
+    }
+
+    @Test
+    public void match_conditions_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), match(FRIENDS));
+        assertEquals(Set.of(ALICE, DANIEL), match(CS2103T));
+        assertEquals(Set.of(BENSON, DANIEL), match(MEIER));
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), match(PHONE_948));
+        assertEquals(Set.of(CARL, ELLE, FIONA, GEORGE), match(new NotQuery(FRIENDS)));
+    }
+
+    @Test
+    public void match_compositeQueries_returnsMatchingPersons() {
+        assertEquals(Set.of(DANIEL), match(new AndQuery(List.of(FRIENDS, CS2103T, MEIER))));
+        assertEquals(Set.of(ALICE), match(new AndQuery(List.of(FRIENDS, new NotQuery(MEIER)))));
+        assertEquals(Set.of(BENSON, DANIEL, ELLE, FIONA, GEORGE), match(new OrQuery(List.of(MEIER, PHONE_948))));
+        assertEquals(Set.of(CARL, DANIEL, GEORGE), match(new AndQuery(List.of(STREET,
+                new NotQuery(new AndQuery(List.of(FRIENDS, CS2101, new NotQuery(CS2103T))))))));
+    }
+
+    @Test
+    public void match_variousQueries_agreesWithTest() {
+        List<Query> conditions = List.of(FRIENDS, OWES_MONEY, CS2103T, CS2101, MEIER, STREET, PHONE_948, NOTE_HELP,
+                new FieldQuery(Field.NAME, "nobody"), new GroupQuery(new Group("CS9999")));
+        for (Query first : conditions) {
+            for (Query second : conditions) {
+                List<Query> queries = List.of(new AndQuery(List.of(first, second)),
+                        new AndQuery(List.of(first, new NotQuery(second))),
+                        new OrQuery(List.of(first, second)),
+                        new NotQuery(new OrQuery(List.of(first, new NotQuery(second)))),
+                        new AndQuery(List.of(new OrQuery(List.of(first, STREET)), second, new NotQuery(OWES_MONEY))));
+                for (Query query : queries) {
+                    assertEquals(scan(query), match(query), query.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void matches_afterPersonOperations_testsCurrentData() {
+        Query.Matches matches = new AndQuery(List.of(FRIENDS, CS2103T)).match(addressBook);
+        assertFalse(matches.isEmpty());
+        assertTrue(matches.test(ALICE));
+        assertFalse(matches.test(BENSON));
+
+        Person editedBenson = new PersonBuilder(BENSON).withGroup("CS2103T").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        assertTrue(matches.test(editedBenson));
+
+        addressBook.removePerson(ALICE);
+        assertFalse(matches.test(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new TagQuery(new Tag("FRIENDS")).equals(FRIENDS));
+        assertTrue(new FieldQuery(Field.NAME, "meier").equals(MEIER));
+        assertFalse(new FieldQuery(Field.NOTE, "meier").equals(MEIER));
+        assertFalse(new FieldQuery(Field.NAME, "meier*").equals(MEIER));
+        assertTrue(new NotQuery(CS2101).equals(new NotQuery(CS2101)));
+        assertTrue(new AndQuery(List.of(FRIENDS, CS2101)).equals(new AndQuery(List.of(FRIENDS, CS2101))));
+        assertFalse(new AndQuery(List.of(FRIENDS, CS2101)).equals(new OrQuery(List.of(FRIENDS, CS2101))));
+        assertFalse(FRIENDS.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new OrQuery(List.of(new AndQuery(List.of(FRIENDS, new NotQuery(CS2101))), MEIER));
+        assertEquals("((tag:friends AND NOT group:CS2101) OR name:MEIER)", query.toString());
+    }
+
+    private Set<Person> match(Query query) {
+        Query.Matches matches = query.match(addressBook);
+        return addressBook.getPersonList().stream().filter(matches).collect(Collectors.toSet());
+    }
+
+    private Set<Person> scan(Query query) {
+        return addressBook.getPersonList().stream().filter(query).collect(Collectors.toSet());
+    }
+}
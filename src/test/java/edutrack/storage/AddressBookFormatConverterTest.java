@@ -0,0 +1,96 @@
+package edutrack.storage;
+
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.core.AddressBookFormat;
+import edutrack.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertTrue(AddressBookFormatConverter.createStorage(AddressBookFormat.JSON, filePath)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(AddressBookFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void detectFormat() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormatConverter.detectFormat(jsonPath));
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormatConverter.detectFormat(binaryPath));
+        assertEquals(Optional.empty(), AddressBookFormatConverter.detectFormat(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path convertedBackPath = testFolder.resolve("convertedBack.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(jsonPath, binaryPath, AddressBookFormat.BINARY);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(binaryPath, convertedBackPath, AddressBookFormat.JSON);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(convertedBackPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_journaledJsonToBinary_includesJournalAndRemovesIt() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        journaledStorage.saveAddressBook(original);
+
+        AddressBookFormatConverter.convertIfNeeded(filePath, AddressBookFormat.BINARY);
+
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_corruptConvertedFile_usesPreviousGenerationInItsFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        AddressBookFormatConverter.convertIfNeeded(filePath, AddressBookFormat.BINARY);
+        Files.write(filePath, new byte[] {1, 2, 3});
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_sameFormat_fileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] before = Files.readAllBytes(filePath);
+
+        AddressBookFormatConverter.convertIfNeeded(filePath, AddressBookFormat.JSON);
+        assertEquals(new String(before), new String(Files.readAllBytes(filePath)));
+    }
+}
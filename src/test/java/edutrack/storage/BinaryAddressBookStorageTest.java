@@ -0,0 +1,116 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_sharedGroupsAndTags_internedToCentralInstances() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addGroup(new Group("CS2103T"));
+        original.addTag(new Tag("friends"));
+        original.addPerson(new PersonBuilder().withName("Amy Bee").withGroup("CS2103T").withTags("friends").build());
+        original.addPerson(new PersonBuilder().withName("Bob Choo").withGroup("CS2103T", "CS2101").build());
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Group centralGroup = readBack.getGroupList().get(0);
+        Tag centralTag = readBack.getTagList().get(0);
+        for (Person person : readBack.getPersonList()) {
+            assertTrue(person.getGroups().stream().anyMatch(group -> group == centralGroup));
+        }
+        assertTrue(readBack.getPersonList().get(0).getTags().stream().anyMatch(tag -> tag == centralTag));
+        // groups only referenced by persons are auto-created, as when loading json
+        assertEquals(new Group("CS2101"), readBack.getGroupList().get(1));
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_usesPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+}
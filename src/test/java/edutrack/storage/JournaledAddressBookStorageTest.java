@@ -0,0 +1,204 @@
+package edutrack.storage;
+
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.IDA;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        storage = new JournaledAddressBookStorage(filePath);
+        addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesCheckpoint() throws Exception {
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedWithoutRewritingSnapshot() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addGroup(new Group("CS9999"));
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingAppended() throws Exception {
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_writesCheckpoint() throws Exception {
+        for (int i = 0; i <= JournaledAddressBookStorage.MAX_ENTRIES_PER_SAVE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook reopenedBook = new AddressBook(reopened.readAddressBook().get());
+        reopenedBook.addPerson(IDA);
+        reopened.saveAddressBook(reopenedBook);
+        addressBook.addPerson(IDA);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // simulates a crash after a checkpoint rewrote the snapshot, but before it reset the journal
+        List<String> staleJournal = Files.readAllLines(journalPath);
+        AddressBook newer = getTypicalAddressBook();
+        newer.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newer);
+        Files.write(journalPath, staleJournal);
+
+        assertEquals(newer, readBack());
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignored() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_tornSaveOfSeveralEntries_noneApplied() throws Exception {
+        AddressBook beforeSave = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // simulates a crash while appending, which leaves the complete first entries of the save on disk
+        List<String> lines = Files.readAllLines(journalPath);
+        String lastSave = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastSave.substring(0, lastSave.lastIndexOf('{')));
+        Files.write(journalPath, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(beforeSave, readBack());
+    }
+
+    @Test
+    public void readAddressBook_corruptEntry_throwsDataLoadingException() throws Exception {
+        Files.write(journalPath, "[{\"op\":\"remove\",\"index\":99}]\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonInJournal_throwsDataLoadingException() throws Exception {
+        String entry = JsonUtil.toCompactJsonString(List.of(JsonAdaptedJournalEntry.add(0, ALICE))) + "\n";
+        Files.write(journalPath, entry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journaledPersonInUndeclaredGroup_groupAutoCreated() throws Exception {
+        Person inNewGroup = new PersonBuilder(HOON).withGroup("CS9999").build();
+        String entry = JsonUtil.toCompactJsonString(List.of(JsonAdaptedJournalEntry.add(0, inNewGroup))) + "\n";
+        Files.write(journalPath, entry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        AddressBook readBack = readBack();
+        assertEquals(inNewGroup, readBack.getPersonList().get(0));
+        assertTrue(readBack.getGroupList().contains(new Group("CS9999")));
+    }
+
+    @Test
+    public void readAddressBook_corruptSnapshot_usesPreviousGenerationWithoutJournal() throws Exception {
+        AddressBook previous = new AddressBook(addressBook);
+        for (int i = 0; i <= JournaledAddressBookStorage.MAX_ENTRIES_PER_SAVE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        storage.saveAddressBook(addressBook);
+        Files.write(filePath, "{ \"persons\": [".getBytes(StandardCharsets.UTF_8));
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook recovered = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(previous, recovered);
+
+        // the next save rewrites the snapshot instead of appending to the journal of the corrupt one
+        recovered.addPerson(HOON);
+        reopened.saveAddressBook(recovered);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(recovered, readBack());
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
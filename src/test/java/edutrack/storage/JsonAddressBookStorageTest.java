@@ -7,17 +7,23 @@ import static edutrack.testutil.TypicalPersons.IDA;
 import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.util.FileUtil;
 import edutrack.model.AddressBook;
 import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +66,36 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePerson_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_duplicateGroup_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateGroupAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_personsBeforeCentralLists_success() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("personsBeforeCentralListsAddressBook.json").get();
+
+        // declared groups keep their stored order, followed by the auto-created group
+        assertEquals(Arrays.asList(new Group("CS2040S"), new Group("CS2103T"), new Group("CS2101")),
+                readBack.getGroupList());
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("owesMoney")), readBack.getTagList());
+        assertEquals(2, readBack.getPersonList().size());
+        assertEquals("", readBack.getPersonList().get(0).getNote().value);
+
+        // persons share the central group and tag instances
+        Group centralGroup = readBack.getGroupList().get(1);
+        Tag centralTag = readBack.getTagList().get(0);
+        for (Person person : readBack.getPersonList()) {
+            assertTrue(person.getGroups().stream().anyMatch(group -> group == centralGroup));
+            assertTrue(person.getTags().stream().anyMatch(tag -> tag == centralTag));
+        }
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +122,21 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptFile_usesPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        FileUtil.writeToFile(filePath, "{ \"persons\": [ { \"name\": \"Hoon");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook(filePath, false));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
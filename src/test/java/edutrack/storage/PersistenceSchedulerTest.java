@@ -0,0 +1,182 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.person.Person;
+
+public class PersistenceSchedulerTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+    private PersistenceScheduler scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersistenceScheduler(storage, addressBook, -1));
+    }
+
+    @Test
+    public void saveIfModified_notModified_doesNotSave() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook);
+        scheduler.saveIfModified();
+        assertEquals(0, storage.saves.size());
+    }
+
+    @Test
+    public void saveIfModified_modified_savesOnce() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook);
+        addressBook.addPerson(ALICE);
+        scheduler.saveIfModified();
+        scheduler.saveIfModified();
+
+        assertEquals(1, storage.saves.size());
+        assertEquals(List.of(ALICE), storage.saves.get(0));
+        assertEquals(scheduler.getModifiedGeneration(), scheduler.getSavedGeneration());
+    }
+
+    @Test
+    public void saveIfModified_saveFails_retriedOnNextCall() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook);
+        addressBook.addPerson(ALICE);
+        storage.failure = new IOException("disk full");
+        assertThrows(IOException.class, "disk full", scheduler::saveIfModified);
+
+        storage.failure = null;
+        scheduler.saveIfModified();
+        assertEquals(1, storage.saves.size());
+        assertEquals(scheduler.getModifiedGeneration(), scheduler.getSavedGeneration());
+    }
+
+    @Test
+    public void saveIfModified_burstInBackground_coalescedIntoOneWrite() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook, 60_000);
+        addressBook.addPerson(ALICE);
+        scheduler.saveIfModified();
+        addressBook.addPerson(BENSON);
+        scheduler.saveIfModified();
+        addressBook.addPerson(CARL);
+        scheduler.saveIfModified();
+
+        // nothing is written before the debounce interval elapses
+        assertEquals(0, storage.saves.size());
+        assertEquals(0, scheduler.getSavedGeneration());
+
+        scheduler.flush();
+        assertEquals(1, storage.saves.size());
+        assertEquals(List.of(ALICE, BENSON, CARL), storage.saves.get(0));
+        assertEquals(scheduler.getModifiedGeneration(), scheduler.getSavedGeneration());
+    }
+
+    @Test
+    public void saveIfModified_backgroundSaveFails_returnedAndRetried() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook, 1);
+        storage.failure = new IOException("disk full");
+        addressBook.addPerson(ALICE);
+        assertTrue(scheduler.saveIfModified().isEmpty());
+        assertTrue(storage.failedAttempt.await(10, TimeUnit.SECONDS));
+        storage.failure = null;
+
+        // the failure is recorded just after the write throws
+        Optional<PersistenceScheduler.FailedSave> failedSave = Optional.empty();
+        for (int i = 0; i < 1000 && failedSave.isEmpty(); i++) {
+            Thread.sleep(10);
+            failedSave = scheduler.saveIfModified();
+        }
+        assertEquals("disk full", failedSave.orElseThrow().getCause().getMessage());
+        assertTrue(scheduler.saveIfModified().isEmpty());
+
+        scheduler.flush();
+        assertEquals(List.of(ALICE), storage.saves.get(storage.saves.size() - 1));
+    }
+
+    @Test
+    public void flush_snapshotTakenBeforeLaterChanges_savesLatestData() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook, 60_000);
+        addressBook.addPerson(ALICE);
+        scheduler.saveIfModified();
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        scheduler.flush();
+        assertEquals(List.of(BENSON), storage.saves.get(storage.saves.size() - 1));
+    }
+
+    @Test
+    public void flush_notModified_doesNotSave() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook, 60_000);
+        scheduler.flush();
+        assertEquals(0, storage.saves.size());
+    }
+
+    @Test
+    public void markModified_unchangedData_savesOnNextCall() throws Exception {
+        scheduler = new PersistenceScheduler(storage, addressBook);
+        scheduler.markModified();
+        scheduler.saveIfModified();
+        assertEquals(1, storage.saves.size());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the persons of every saved address book.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<List<Person>> saves = new ArrayList<>();
+        private final CountDownLatch failedAttempt = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            IOException failure = this.failure;
+            if (failure != null) {
+                failedAttempt.countDown();
+                throw failure;
+            }
+            saves.add(new ArrayList<>(addressBook.getPersonList()));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
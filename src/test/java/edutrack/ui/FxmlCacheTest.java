@@ -0,0 +1,43 @@
+package edutrack.ui;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FxmlCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_sameLocation_readsFileOnce() throws IOException {
+        Path file = testFolder.resolve("card.fxml");
+        Files.writeString(file, "<first/>");
+        URL location = file.toUri().toURL();
+        assertArrayEquals("<first/>".getBytes(), readAll(location));
+
+        // later loads use the cached contents
+        Files.writeString(file, "<second/>");
+        assertArrayEquals("<first/>".getBytes(), readAll(location));
+    }
+
+    @Test
+    public void open_missingFile_throwsIoException() throws IOException {
+        URL location = testFolder.resolve("missing.fxml").toUri().toURL();
+        assertThrows(IOException.class, () -> FxmlCache.open(location));
+    }
+
+    private static byte[] readAll(URL location) throws IOException {
+        try (InputStream in = FxmlCache.open(location)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package edutrack.ui;
 import static edutrack.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import java.net.URL;
 import java.nio.file.Path;
@@ -50,6 +51,15 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl).getRoot());
     }
 
+    @Test
+    public void constructor_sameFileTwice_loadsSeparateRoots() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestFxmlObject firstRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        TestFxmlObject secondRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        assertEquals(firstRoot, secondRoot);
+        assertNotSame(firstRoot, secondRoot);
+    }
+
     @Test
     public void constructor_validFileWithFxRootUrl_loadsFile() {
         URL validFileUrl = getTestFileUrl(VALID_FILE_WITH_FX_ROOT_PATH);